@@ -0,0 +1,348 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class DataStructuresBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        benchmarkParallelSort();
+        benchmarkLinkedListTraversal();
+        benchmarkQueueHandOff();
+        benchmarkHeapArity();
+        benchmarkPriorityQueueContention();
+        benchmarkConcurrentStack();
+    }
+    
+    // Benchmark MyArrayList.parallelSort across pool sizes
+    private static void benchmarkParallelSort() {
+        System.out.println("=== Benchmarking MyArrayList.parallelSort ===");
+        int size = 2_000_000;
+        Integer[] values = randomValues(size, 42);
+        
+        double sequential = timeSort(values, 1);
+        System.out.printf("Sequential sort of %d elements: %.1f ms%n", size, sequential);
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 2; parallelism <= cores; parallelism *= 2) {
+            double parallel = timeSort(values, parallelism);
+            System.out.printf("Parallel sort with %d threads: %.1f ms (%.2fx)%n",
+                    parallelism, parallel, sequential / parallel);
+        }
+    }
+    
+    // Benchmark iteration and indexed access on MyLinkedList and MyUnrolledLinkedList
+    private static void benchmarkLinkedListTraversal() {
+        System.out.println("\n=== Benchmarking linked list traversal ===");
+        int size = 1_000_000;
+        MyLinkedList<Integer> linked = new MyLinkedList<>();
+        MyUnrolledLinkedList<Integer> unrolled = new MyUnrolledLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            linked.add(i);
+            unrolled.add(i);
+        }
+        
+        System.out.printf("MyLinkedList iteration: %.2f ms%n", timeIteration(linked));
+        System.out.printf("MyUnrolledLinkedList iteration: %.2f ms%n", timeIteration(unrolled));
+        System.out.printf("MyLinkedList 1000 random gets: %.2f ms%n", timeRandomGets(linked, 1000));
+        System.out.printf("MyUnrolledLinkedList 1000 random gets: %.2f ms%n", timeRandomGets(unrolled, 1000));
+    }
+    
+    // Returns the average time in milliseconds to iterate over the list
+    private static double timeIteration(MyList<Integer> list) {
+        long total = 0;
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (Integer value : list) {
+                checksum += value;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                total += elapsed;
+            }
+        }
+        consume(checksum);
+        return total / 1e6 / MEASURED_ROUNDS;
+    }
+    
+    // Returns the average time in milliseconds for the given number of random get calls
+    private static double timeRandomGets(MyList<Integer> list, int count) {
+        Random random = new Random(42);
+        long total = 0;
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                checksum += list.get(random.nextInt(list.size()));
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                total += elapsed;
+            }
+        }
+        consume(checksum);
+        return total / 1e6 / MEASURED_ROUNDS;
+    }
+    
+    // Benchmark handing elements between threads through lock-free and synchronized queues
+    private static void benchmarkQueueHandOff() {
+        System.out.println("\n=== Benchmarking queue hand-off between threads ===");
+        int count = 5_000_000;
+        
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1; // The first round warms up
+            
+            MySpscQueue<Integer> spsc = new MySpscQueue<>(1024);
+            double spscRate = timeHandOff(1, count, item -> spsc.offer(item),
+                    () -> spsc.drain(DataStructuresBenchmark::consume, 256));
+            
+            MyMpscQueue<Integer> mpsc = new MyMpscQueue<>(1024);
+            double mpscRate = timeHandOff(2, count, item -> mpsc.offer(item),
+                    () -> mpsc.drain(DataStructuresBenchmark::consume, 256));
+            
+            MyQueue<Integer> locked = new MyQueue<>();
+            double lockedRate = timeHandOff(1, count, item -> {
+                synchronized (locked) {
+                    locked.enqueue(item);
+                }
+                return true;
+            }, () -> {
+                synchronized (locked) {
+                    if (locked.isEmpty()) {
+                        return 0;
+                    }
+                    consume(locked.dequeue());
+                    return 1;
+                }
+            });
+            
+            if (report) {
+                System.out.printf("MySpscQueue, 1 producer: %.1f M ops/s%n", spscRate);
+                System.out.printf("MyMpscQueue, 2 producers: %.1f M ops/s%n", mpscRate);
+                System.out.printf("synchronized MyQueue, 1 producer: %.1f M ops/s%n", lockedRate);
+            }
+        }
+    }
+    
+    // Moves count elements from the producers to one consumer and returns millions of elements per second
+    private static double timeHandOff(int producers, int count,
+                                      Predicate<Integer> offer,
+                                      IntSupplier drain) {
+        Integer item = 7;
+        int perProducer = count / producers;
+        Thread[] threads = new Thread[producers];
+        long start = System.nanoTime();
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!offer.test(item)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        int received = 0;
+        while (received < perProducer * producers) {
+            int drained = drain.getAsInt();
+            if (drained == 0) {
+                Thread.yield();
+            }
+            received += drained;
+        }
+        long elapsed = System.nanoTime() - start;
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return received / (elapsed / 1e3);
+    }
+    
+    // Benchmark MyMinHeap arities on insert-heavy and extract-heavy workloads
+    private static void benchmarkHeapArity() {
+        System.out.println("\n=== Benchmarking MyMinHeap arity ===");
+        Integer[] values = randomValues(1_000_000, 42);
+        for (int arity = 2; arity <= 8; arity *= 2) {
+            // Insert-heavy: one extract for every ten inserts
+            double insertHeavy = timeHeapWorkload(values, arity, 10);
+            // Extract-heavy: insert everything, then extract everything
+            double extractHeavy = timeHeapWorkload(values, arity, 0);
+            System.out.printf("Arity %d: insert-heavy %.1f ms, extract-heavy %.1f ms%n",
+                    arity, insertHeavy, extractHeavy);
+        }
+    }
+    
+    // Returns the average time in milliseconds to run a heap workload; an insertsPerExtract
+    // of 0 inserts all values and then extracts them all
+    private static double timeHeapWorkload(Integer[] values, int arity, int insertsPerExtract) {
+        long total = 0;
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            MyMinHeap<Integer> heap = new MyMinHeap<>(arity);
+            long start = System.nanoTime();
+            for (int i = 0; i < values.length; i++) {
+                heap.insert(values[i]);
+                if (insertsPerExtract > 0 && i % insertsPerExtract == 0) {
+                    checksum += heap.extractMin();
+                }
+            }
+            if (insertsPerExtract == 0) {
+                while (!heap.isEmpty()) {
+                    checksum += heap.extractMin();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                total += elapsed;
+            }
+        }
+        consume(checksum);
+        return total / 1e6 / MEASURED_ROUNDS;
+    }
+    
+    // Benchmark MyMultiQueue against a MyMinHeap behind a single lock as threads are added
+    private static void benchmarkPriorityQueueContention() {
+        System.out.println("\n=== Benchmarking priority queue contention ===");
+        int operations = 2_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= Math.max(4, cores); threads *= 2) {
+            MyMinHeap<Integer> heap = new MyMinHeap<>();
+            ReentrantLock lock = new ReentrantLock();
+            double lockedRate = timeAlternating(threads, operations, item -> {
+                lock.lock();
+                try {
+                    heap.insert(item);
+                } finally {
+                    lock.unlock();
+                }
+            }, () -> {
+                lock.lock();
+                try {
+                    return heap.isEmpty() ? null : heap.extractMin();
+                } finally {
+                    lock.unlock();
+                }
+            });
+            
+            MyMultiQueue<Integer> multi = new MyMultiQueue<>(2 * threads);
+            double multiRate = timeAlternating(threads, operations, multi::insert, multi::poll);
+            
+            System.out.printf("%d threads: locked MyMinHeap %.1f M ops/s, MyMultiQueue %.1f M ops/s%n",
+                    threads, lockedRate, multiRate);
+        }
+    }
+    
+    // Benchmark MyConcurrentStack against a synchronized MyStack as threads are added
+    private static void benchmarkConcurrentStack() {
+        System.out.println("\n=== Benchmarking concurrent stack ===");
+        int operations = 4_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= Math.max(4, cores); threads *= 2) {
+            MyStack<Integer> stack = new MyStack<>();
+            double lockedRate = timeAlternating(threads, operations, item -> {
+                synchronized (stack) {
+                    stack.push(item);
+                }
+            }, () -> {
+                synchronized (stack) {
+                    return stack.pop();
+                }
+            });
+            
+            MyConcurrentStack<Integer> lockFree = new MyConcurrentStack<>();
+            double lockFreeRate = timeAlternating(threads, operations, lockFree::push, lockFree::pop);
+            
+            System.out.printf("%d threads: synchronized MyStack %.1f M ops/s, MyConcurrentStack %.1f M ops/s%n",
+                    threads, lockedRate, lockFreeRate);
+        }
+    }
+    
+    // Prefills the collection, then has each thread alternate inserts and removals and
+    // returns millions of operations per second over all threads
+    private static double timeAlternating(int threads, int operations,
+                                          Consumer<Integer> insert, Supplier<Integer> poll) {
+        Integer[] values = randomValues(1 << 16, 42);
+        for (Integer value : values) {
+            insert.accept(value);
+        }
+        int perThread = operations / threads;
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 7919;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i += 2) {
+                    insert.accept(values[(offset + i) & (values.length - 1)]);
+                    consume(poll.get());
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) perThread * threads / elapsed * 1e3;
+    }
+    
+    // Returns the average time in milliseconds to sort a copy of the values
+    private static double timeSort(Integer[] values, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long total = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                MyArrayList<Integer> list = new MyArrayList<>(values.length);
+                for (Integer value : values) {
+                    list.add(value);
+                }
+                long start = System.nanoTime();
+                list.parallelSort(Integer::compare, pool);
+                long elapsed = System.nanoTime() - start;
+                if (round >= WARMUP_ROUNDS) {
+                    total += elapsed;
+                }
+            }
+            return total / 1e6 / MEASURED_ROUNDS;
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    // Keeps the JIT from discarding values that are otherwise unused
+    private static void consume(Object value) {
+        if (value == null) {
+            System.out.println();
+        }
+    }
+    
+    // Keeps the JIT from discarding benchmark loops whose results are unused
+    private static void consume(long checksum) {
+        if (checksum == 42) {
+            System.out.println();
+        }
+    }
+    
+    // Helper method to generate reproducible random values
+    private static Integer[] randomValues(int size, long seed) {
+        Random random = new Random(seed);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
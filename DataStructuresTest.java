@@ -1,10 +1,33 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
 public class DataStructuresTest {
     public static void main(String[] args) {
         testMyArrayList();
         testMyLinkedList();
+        testMyUnrolledLinkedList();
+        testMyIndexableSkipList();
+        testPrimitiveArrayLists();
         testMyStack();
+        testMyConcurrentStack();
         testMyQueue();
+        testLockFreeQueues();
+        testMyBlockingQueue();
         testMyMinHeap();
+        testMyIndexedMinHeap();
+        testMyLongMinHeap();
+        testMyTopK();
+        testMyMergingIterator();
+        testMyTimerWheel();
+        testMyMultiQueue();
+        testMyPairingHeap();
     }
     
     // Test MyArrayList
@@ -61,13 +84,94 @@ public class DataStructuresTest {
         list.sort();
         printList("After sorting", list);
         
+        // Test sort with comparator
+        list.sort(Comparator.reverseOrder());
+        printList("After sorting in reverse order", list);
+        
+        // Test parallel sort
+        list.setParallelSortThreshold(0);
+        list.parallelSort();
+        printList("After parallel sorting", list);
+        
         // Test clear and size
         System.out.println("Size before clear: " + list.size());
         list.clear();
         System.out.println("Size after clear: " + list.size());
         printList("After clearing", list);
+
+        // Test a wrapped circular buffer; a capacity of 8 makes addFirst wrap past the array end
+        MyArrayList<Integer> ring = new MyArrayList<>(8);
+        for (int i = 1; i <= 5; i++) {
+            ring.add(i * 10);
+        }
+        ring.addFirst(5);
+        ring.addFirst(0);
+        printList("After addFirst wrapping past the array end", ring);
+        ring.removeFirst();
+        ring.addFirst(-5);
+        printList("After removeFirst and addFirst on the wrapped buffer", ring);
+
+        // Test middle insert and remove on the near-head and near-tail paths
+        ring.add(1, 1);
+        ring.add(6, 45);
+        printList("After inserting 1 at index 1 and 45 at index 6", ring);
+        ring.remove(1);
+        ring.remove(6);
+        printList("After removing index 1 and index 6", ring);
+
+        // Test growth while the buffer is wrapped
+        for (int i = 6; i <= 10; i++) {
+            ring.add(i * 10);
+        }
+        ring.addFirst(-10);
+        printList("After growing the wrapped buffer", ring);
+
+        // Test sort, parallelSort and toArray on a wrapped buffer
+        MyArrayList<Integer> wrapped = new MyArrayList<>(8);
+        for (int value : new int[] {7, 3, 9, 1}) {
+            wrapped.add(value);
+        }
+        for (int value : new int[] {8, 2, 6}) {
+            wrapped.addFirst(value);
+        }
+        System.out.println("toArray on the wrapped buffer: " + Arrays.toString(wrapped.toArray()));
+        wrapped.sort();
+        printList("After sorting the wrapped buffer", wrapped);
+        wrapped.addFirst(5);
+        wrapped.addFirst(4);
+        wrapped.setParallelSortThreshold(0);
+        wrapped.parallelSort(Comparator.reverseOrder());
+        printList("After parallel sorting the wrapped buffer in reverse order", wrapped);
+        System.out.println("toArray after sorting: " + Arrays.toString(wrapped.toArray()));
+
+        // Test a sort large enough to stack and merge runs, with many equal keys to check stability
+        MyArrayList<int[]> large = buildSortInput(5000, 42);
+        int[] expectedKeys = new int[large.size()];
+        for (int i = 0; i < expectedKeys.length; i++) {
+            expectedKeys[i] = large.get(i)[0];
+        }
+        Arrays.sort(expectedKeys);
+        large.sort(Comparator.comparingInt((int[] entry) -> entry[0]));
+        System.out.println("Large sort matches Arrays.sort and is stable: " + isStableSort(large, expectedKeys));
+
+        // Test a parallel sort large enough to split into Sorter and Merger tasks on a 4-thread pool
+        MyArrayList<int[]> sequential = buildSortInput(120_000, 7);
+        MyArrayList<int[]> parallel = buildSortInput(120_000, 7);
+        Comparator<int[]> byKey = Comparator.comparingInt((int[] entry) -> entry[0]);
+        sequential.sort(byKey);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.parallelSort(byKey, pool);
+        } finally {
+            pool.shutdown();
+        }
+        boolean sameOrder = parallel.size() == sequential.size();
+        for (int i = 0; sameOrder && i < parallel.size(); i++) {
+            sameOrder = parallel.get(i)[1] == sequential.get(i)[1];
+        }
+        System.out.println("Large parallel sort matches sequential sort, including equal keys: " + sameOrder);
     }
-    
+
     // Test MyLinkedList
     private static void testMyLinkedList() {
         System.out.println("\n=== Testing MyLinkedList ===");
@@ -94,6 +198,13 @@ public class DataStructuresTest {
         System.out.println("First element: " + list.getFirst());
         System.out.println("Last element: " + list.getLast());
         
+        // Test sequential indexed access
+        System.out.print("Indexed scan:");
+        for (int i = 0; i < list.size(); i++) {
+            System.out.print(" " + list.get(i));
+        }
+        System.out.println();
+        
         // Test set
         list.set(3, 77);
         printList("After setting index 3 to 77", list);
@@ -122,6 +233,51 @@ public class DataStructuresTest {
         list.sort();
         printList("After sorting", list);
         
+        // Test sort with comparator
+        list.sort(Comparator.reverseOrder());
+        printList("After sorting in reverse order", list);
+
+        // Test that a comparator throwing partway through the sort leaves every element in the list
+        MyLinkedList<Integer> broken = new MyLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            broken.add((i * 7) % 20);
+        }
+        int[] compares = {0};
+        try {
+            broken.sort((a, b) -> {
+                if (++compares[0] == 30) {
+                    throw new IllegalStateException("Comparator failed");
+                }
+                return a.compareTo(b);
+            });
+        } catch (IllegalStateException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+        int[] forward = new int[broken.size()];
+        int forwardCount = 0;
+        for (int value : broken) {
+            if (forwardCount < forward.length) {
+                forward[forwardCount] = value;
+            }
+            forwardCount++;
+        }
+        int[] backward = new int[broken.size()];
+        for (int i = broken.size() - 1; i >= 0; i--) {
+            backward[i] = broken.get(i);
+        }
+        int[] expected = new int[20];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+        }
+        int[] sortedForward = forward.clone();
+        Arrays.sort(sortedForward);
+        System.out.println("Size after failed sort: " + broken.size());
+        System.out.println("Forward iteration count after failed sort: " + forwardCount);
+        System.out.println("All elements kept after failed sort: " + Arrays.equals(sortedForward, expected));
+        System.out.println("Backward get matches forward iteration: " + Arrays.equals(backward, forward));
+        broken.sort();
+        printList("After sorting again", broken);
+
         // Test clear and size
         System.out.println("Size before clear: " + list.size());
         list.clear();
@@ -129,6 +285,136 @@ public class DataStructuresTest {
         printList("After clearing", list);
     }
     
+    // Test MyUnrolledLinkedList
+    private static void testMyUnrolledLinkedList() {
+        System.out.println("\n=== Testing MyUnrolledLinkedList ===");
+        // Use small nodes so that splits and merges happen
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(4);
+        
+        // Test add, add at index, addFirst and addLast
+        for (int i = 1; i <= 10; i++) {
+            list.add(i * 10);
+        }
+        list.add(5, 55);
+        list.addFirst(0);
+        list.addLast(999);
+        printList("After adding elements", list);
+        
+        // Test get and set
+        System.out.println("Element at index 6: " + list.get(6));
+        list.set(6, 56);
+        printList("After setting index 6 to 56", list);
+        
+        // Test remove, removeFirst and removeLast
+        list.remove(3);
+        list.remove(3);
+        list.removeFirst();
+        list.removeLast();
+        printList("After removing elements", list);
+        
+        // Test indexOf and exists
+        System.out.println("Index of 56: " + list.indexOf(56));
+        System.out.println("Exists 999: " + list.exists(999));
+        
+        // Test sort
+        list.sort(Comparator.reverseOrder());
+        printList("After sorting in reverse order", list);
+        
+        // Test clear and size
+        System.out.println("Size before clear: " + list.size());
+        list.clear();
+        System.out.println("Size after clear: " + list.size());
+    }
+    
+    // Test MyIndexableSkipList
+    private static void testMyIndexableSkipList() {
+        System.out.println("\n=== Testing MyIndexableSkipList ===");
+        MyIndexableSkipList<Integer> list = new MyIndexableSkipList<>();
+        
+        // Test add, add at index, addFirst and addLast
+        for (int i = 1; i <= 10; i++) {
+            list.add(i * 10);
+        }
+        list.add(5, 55);
+        list.addFirst(0);
+        list.addLast(999);
+        printList("After adding elements", list);
+        
+        // Test get and set
+        System.out.println("Element at index 6: " + list.get(6));
+        list.set(6, 56);
+        printList("After setting index 6 to 56", list);
+        
+        // Test remove, removeFirst and removeLast
+        list.remove(3);
+        list.remove(3);
+        list.removeFirst();
+        list.removeLast();
+        printList("After removing elements", list);
+        System.out.println("First element: " + list.getFirst());
+        System.out.println("Last element: " + list.getLast());
+        
+        // Test indexOf and exists
+        System.out.println("Index of 56: " + list.indexOf(56));
+        System.out.println("Exists 999: " + list.exists(999));
+        
+        // Test sort
+        list.sort(Comparator.reverseOrder());
+        printList("After sorting in reverse order", list);
+        
+        // Test clear and size
+        System.out.println("Size before clear: " + list.size());
+        list.clear();
+        System.out.println("Size after clear: " + list.size());
+    }
+    
+    // Test MyIntArrayList, MyLongArrayList and MyDoubleArrayList
+    private static void testPrimitiveArrayLists() {
+        System.out.println("\n=== Testing primitive array lists ===");
+        MyIntArrayList ints = new MyIntArrayList();
+        
+        // Test add, add at index and addFirst
+        ints.add(5);
+        ints.add(2);
+        ints.add(8);
+        ints.add(1, 10);
+        ints.addFirst(99);
+        System.out.println("Int list: " + Arrays.toString(ints.toArray()));
+        
+        // Test get, set, remove and indexOf
+        System.out.println("Element at index 2: " + ints.get(2));
+        ints.set(2, 77);
+        ints.remove(0);
+        System.out.println("After set and remove: " + Arrays.toString(ints.toArray()));
+        System.out.println("Index of 8: " + ints.indexOf(8));
+        System.out.println("Exists 999: " + ints.exists(999));
+        
+        // Test sort
+        ints.sort();
+        System.out.println("After sorting: " + Arrays.toString(ints.toArray()));
+        
+        // Test bridging to and from MyArrayList
+        MyArrayList<Integer> boxed = ints.toList();
+        printList("Boxed copy", boxed);
+        System.out.println("Unboxed again: " + Arrays.toString(MyIntArrayList.from(boxed).toArray()));
+        
+        MyLongArrayList longs = new MyLongArrayList();
+        longs.add(3_000_000_000L);
+        longs.add(-1L);
+        longs.sort();
+        System.out.println("Long list after sorting: " + Arrays.toString(longs.toArray()));
+        
+        MyDoubleArrayList doubles = new MyDoubleArrayList();
+        doubles.add(2.5);
+        doubles.add(Double.NaN);
+        doubles.add(-1.0);
+        doubles.sort();
+        System.out.println("Double list after sorting: " + Arrays.toString(doubles.toArray()));
+        System.out.println("Index of NaN: " + doubles.indexOf(Double.NaN));
+        doubles.add(0.0);
+        System.out.println("Exists -0.0 when only 0.0 is present: " + doubles.exists(-0.0));
+    }
+    
     // Test MyStack
     private static void testMyStack() {
         System.out.println("\n=== Testing MyStack ===");
@@ -156,6 +442,79 @@ public class DataStructuresTest {
         stack.clear();
         System.out.println("After clear - Is empty: " + stack.isEmpty());
         System.out.println("After clear - Size: " + stack.size());
+
+        // Test pushing and popping across several chunks
+        for (int i = 0; i < 5000; i++) {
+            stack.push(i);
+        }
+        System.out.println("Size after 5000 pushes: " + stack.size() + ", top: " + stack.peek());
+        boolean inOrder = true;
+        for (int i = 4999; i >= 0; i--) {
+            inOrder &= stack.pop() == i;
+        }
+        System.out.println("Popped in reverse order: " + inOrder + ", is empty: " + stack.isEmpty());
+        
+        // Test forEachFromTop
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        System.out.print("forEachFromTop:");
+        stack.forEachFromTop(item -> System.out.print(" " + item));
+        System.out.println();
+        
+        // Test that the iterator fails fast
+        try {
+            for (Integer item : stack) {
+                stack.push(item);
+            }
+            System.out.println("No exception on modification during iteration");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Caught ConcurrentModificationException");
+        }
+    }
+    
+    // Test MyConcurrentStack
+    private static void testMyConcurrentStack() {
+        System.out.println("\n=== Testing MyConcurrentStack ===");
+        MyConcurrentStack<Integer> stack = new MyConcurrentStack<>();
+        
+        // Test push, peek and pop
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        System.out.println("Top element: " + stack.peek());
+        System.out.println("Popped elements: " + stack.pop() + " " + stack.pop() + " " + stack.pop());
+        System.out.println("Is empty: " + stack.isEmpty());
+        try {
+            stack.pop();
+        } catch (EmptyStackException e) {
+            System.out.println("Caught EmptyStackException on empty pop");
+        }
+        
+        // Test concurrent pushes and pops
+        long[] sums = new long[4];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= 10000; i++) {
+                    stack.push(i);
+                    sums[id] += stack.pop();
+                }
+            });
+            threads[t].start();
+        }
+        long total = 0;
+        for (int t = 0; t < threads.length; t++) {
+            try {
+                threads[t].join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            total += sums[t];
+        }
+        System.out.println("Concurrent sum of popped elements: " + total + " (expected " + 4 * 50005000L + ")");
+        System.out.println("Is empty: " + stack.isEmpty());
     }
     
     // Test MyQueue
@@ -185,6 +544,182 @@ public class DataStructuresTest {
         queue.clear();
         System.out.println("After clear - Is empty: " + queue.isEmpty());
         System.out.println("After clear - Size: " + queue.size());
+        
+        // Test wrap-around and growth from a small capacity
+        MyQueue<Integer> small = new MyQueue<>(2);
+        small.enqueue(1);
+        small.enqueue(2);
+        small.dequeue();
+        small.enqueue(3);
+        small.enqueue(4);
+        small.enqueue(5);
+        printQueue("After wrapping and growing", small);
+    }
+    
+    // Test MySpscQueue and MyMpscQueue
+    private static void testLockFreeQueues() {
+        System.out.println("\n=== Testing MySpscQueue and MyMpscQueue ===");
+        MySpscQueue<Integer> spsc = new MySpscQueue<>(3);
+        System.out.println("SPSC capacity: " + spsc.capacity());
+        
+        // Test offer until full
+        for (int i = 1; i <= 5; i++) {
+            System.out.print("offer(" + i + ")=" + spsc.offer(i) + " ");
+        }
+        System.out.println();
+        
+        // Test poll and drain
+        System.out.println("Polled: " + spsc.poll());
+        System.out.print("Drained:");
+        int drained = spsc.drain(item -> System.out.print(" " + item), 10);
+        System.out.println(" (" + drained + " elements)");
+        System.out.println("Poll on empty: " + spsc.poll());
+        
+        // Test several producers handing off to one consumer
+        MyMpscQueue<Integer> mpsc = new MyMpscQueue<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!mpsc.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        long[] sum = new long[1];
+        int received = 0;
+        while (received < producers * perProducer) {
+            int count = mpsc.drain(item -> sum[0] += item, 32);
+            if (count == 0) {
+                Thread.yield();
+            }
+            received += count;
+        }
+        System.out.println("MPSC received " + received + " elements with sum " + sum[0]);
+        System.out.println("MPSC is empty: " + mpsc.isEmpty());
+
+        // Test drain with an action that throws on the second element
+        MySpscQueue<Integer> failingSpsc = new MySpscQueue<>(4);
+        MyMpscQueue<Integer> failingMpsc = new MyMpscQueue<>(4);
+        for (int i = 1; i <= 4; i++) {
+            failingSpsc.offer(i);
+            failingMpsc.offer(i);
+        }
+        try {
+            failingSpsc.drain(item -> {
+                if (item == 2) {
+                    throw new IllegalStateException();
+                }
+            }, 10);
+        } catch (IllegalStateException e) {
+            System.out.println("SPSC drain threw, size: " + failingSpsc.size()
+                    + ", next poll: " + failingSpsc.poll());
+        }
+        try {
+            failingMpsc.drain(item -> {
+                if (item == 2) {
+                    throw new IllegalStateException();
+                }
+            }, 10);
+        } catch (IllegalStateException e) {
+            System.out.println("MPSC drain threw, size: " + failingMpsc.size()
+                    + ", next poll: " + failingMpsc.poll());
+        }
+        failingMpsc.drain(item -> { }, 10);
+        int accepted = 0;
+        int polled = 0;
+        for (int i = 0; i < 20; i++) {
+            if (failingMpsc.offer(i)) {
+                accepted++;
+            }
+            if (failingMpsc.poll() != null) {
+                polled++;
+            }
+        }
+        System.out.println("MPSC after the failed drain: " + accepted + " of 20 offered, " + polled + " polled");
+    }
+    
+    // Test MyBlockingQueue
+    private static void testMyBlockingQueue() {
+        System.out.println("\n=== Testing MyBlockingQueue ===");
+        MyBlockingQueue<Integer> queue = new MyBlockingQueue<>(2);
+        
+        try {
+            // Test offer until full, then a timed offer
+            System.out.println("offer(1): " + queue.offer(1));
+            System.out.println("offer(2): " + queue.offer(2));
+            System.out.println("offer(3): " + queue.offer(3));
+            System.out.println("offer(3, 10ms): " + queue.offer(3, 10, TimeUnit.MILLISECONDS));
+            System.out.println("Remaining capacity: " + queue.remainingCapacity());
+            
+            // Test a producer blocked by backpressure until the consumer takes
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 3; i <= 6; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+            System.out.print("Taken:");
+            for (int i = 0; i < 4; i++) {
+                System.out.print(" " + queue.take());
+            }
+            System.out.println();
+            producer.join();
+            
+            // Test drainTo
+            MyArrayList<Integer> drained = new MyArrayList<>();
+            System.out.println("Drained count: " + queue.drainTo(drained));
+            printList("Drained elements", drained);
+            
+            // Test timed poll on an empty queue
+            System.out.println("poll(10ms) on empty: " + queue.poll(10, TimeUnit.MILLISECONDS));
+
+            // Test that a drainTo whose target throws still wakes blocked producers
+            queue.put(7);
+            queue.put(8);
+            Thread blockedProducer = new Thread(() -> {
+                try {
+                    queue.put(9);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            blockedProducer.start();
+            while (blockedProducer.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            MyArrayList<Integer> failing = new MyArrayList<>() {
+                @Override
+                public void add(Integer item) {
+                    if (size() == 1) {
+                        throw new IllegalStateException();
+                    }
+                    super.add(item);
+                }
+            };
+            try {
+                queue.drainTo(failing);
+            } catch (IllegalStateException e) {
+                System.out.println("drainTo threw after transferring " + failing.size() + " element");
+            }
+            blockedProducer.join(1000);
+            System.out.println("Blocked producer finished: " + !blockedProducer.isAlive());
+            System.out.print("Remaining elements:");
+            while (!queue.isEmpty()) {
+                System.out.print(" " + queue.take());
+            }
+            System.out.println();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
     
     // Test MyMinHeap
@@ -222,6 +757,364 @@ public class DataStructuresTest {
         // Test clear
         heap.clear();
         System.out.println("Is empty after clear: " + heap.isEmpty());
+        
+        // Test building a heap from a list and inserting a batch
+        MyArrayList<Integer> items = new MyArrayList<>();
+        items.add(42);
+        items.add(7);
+        items.add(19);
+        items.add(3);
+        MyMinHeap<Integer> built = new MyMinHeap<>(items);
+        built.insertAll(items);
+        System.out.print("Built heap extracted in order: ");
+        while (!built.isEmpty()) {
+            System.out.print(built.extractMin() + " ");
+        }
+        System.out.println();
+        
+        // Test a 4-ary heap
+        MyMinHeap<Integer> quaternary = new MyMinHeap<>(4);
+        for (int value : new int[] {50, 20, 80, 10, 60, 30, 70, 40, 90}) {
+            quaternary.insert(value);
+        }
+        System.out.print("4-ary heap extracted in order: ");
+        while (!quaternary.isEmpty()) {
+            System.out.print(quaternary.extractMin() + " ");
+        }
+        System.out.println();
+        
+        // Test a max heap and a comparator-ordered heap
+        MyMinHeap<Integer> maxHeap = MyMinHeap.maxHeap();
+        MyMinHeap<String> byLength = new MyMinHeap<>(Comparator.comparing(String::length));
+        for (int value : new int[] {50, 20, 80, 10}) {
+            maxHeap.insert(value);
+            byLength.insert("x".repeat(value / 10));
+        }
+        System.out.print("Max heap extracted in order: ");
+        while (!maxHeap.isEmpty()) {
+            System.out.print(maxHeap.extractMin() + " ");
+        }
+        System.out.println();
+        System.out.println("Shortest string: " + byLength.peek());
+
+        // Test sorted iteration, which leaves the heap intact
+        for (int value : new int[] {50, 20, 80, 10, 60, 30, 70, 40, 90}) {
+            quaternary.insert(value);
+        }
+        System.out.print("4-ary heap in sorted order: ");
+        Iterator<Integer> sorted = quaternary.sortedIterator();
+        while (sorted.hasNext()) {
+            System.out.print(sorted.next() + " ");
+        }
+        System.out.println();
+        System.out.println("Size after sorted iteration: " + quaternary.size());
+    }
+    
+    // Test MyIndexedMinHeap
+    private static void testMyIndexedMinHeap() {
+        System.out.println("\n=== Testing MyIndexedMinHeap ===");
+        MyIndexedMinHeap<Integer> heap = new MyIndexedMinHeap<>();
+        
+        // Test insert returning handles
+        int a = heap.insert(30);
+        int b = heap.insert(10);
+        int c = heap.insert(20);
+        int d = heap.insert(40);
+        System.out.println("Minimum element: " + heap.peek());
+        
+        // Test decreaseKey
+        heap.decreaseKey(d, 5);
+        System.out.println("Minimum after decreasing 40 to 5: " + heap.peek());
+        
+        // Test remove by handle
+        System.out.println("Removed by handle: " + heap.remove(c));
+        System.out.println("Contains removed handle: " + heap.contains(c));
+        System.out.println("Element for handle a: " + heap.get(a));
+        
+        // Test extractMin
+        System.out.print("Elements extracted in order: ");
+        while (!heap.isEmpty()) {
+            System.out.print(heap.extractMin() + " ");
+        }
+        System.out.println();
+        System.out.println("Contains handle b after extraction: " + heap.contains(b));
+    }
+    
+    // Test MyLongMinHeap
+    private static void testMyLongMinHeap() {
+        System.out.println("\n=== Testing MyLongMinHeap ===");
+        MyLongMinHeap<String> heap = new MyLongMinHeap<>();
+        
+        // Test insert with primitive keys
+        heap.insert(1_700_000_300L, "third");
+        heap.insert(1_700_000_100L, "first");
+        heap.insert(1_700_000_200L, "second");
+        
+        // Test peekKey and peek
+        System.out.println("Smallest key: " + heap.peekKey());
+        System.out.println("Value with smallest key: " + heap.peek());
+        
+        // Test extractMin
+        System.out.print("Values extracted in order: ");
+        while (!heap.isEmpty()) {
+            System.out.print(heap.extractMin() + " ");
+        }
+        System.out.println();
+        System.out.println("Size: " + heap.size());
+    }
+    
+    // Test MyTopK
+    private static void testMyTopK() {
+        System.out.println("\n=== Testing MyTopK ===");
+        MyTopK<Integer> topK = new MyTopK<>(3);
+        
+        // Test offer on a stream of values
+        System.out.print("Accepted:");
+        for (int value : new int[] {5, 1, 9, 3, 7, 2, 8, 6}) {
+            if (topK.offer(value)) {
+                System.out.print(" " + value);
+            }
+        }
+        System.out.println();
+        System.out.println("Threshold: " + topK.peekThreshold());
+        
+        // Test the sorted result, which leaves the collector intact
+        printList("Top 3", topK.toSortedList());
+        System.out.println("Size after reading result: " + topK.size());
+        
+        // Test a comparator that keeps the shortest strings
+        MyTopK<String> shortest = new MyTopK<>(2, Comparator.comparing(String::length).reversed());
+        for (String word : new String[] {"heap", "a", "queue", "list", "of"}) {
+            shortest.offer(word);
+        }
+        printList("Two shortest words", shortest.toSortedList());
+    }
+    
+    // Test MyMergingIterator
+    private static void testMyMergingIterator() {
+        System.out.println("\n=== Testing MyMergingIterator ===");
+        MyArrayList<MyList<Integer>> sources = new MyArrayList<>();
+        MyArrayList<Integer> first = new MyArrayList<>();
+        MyLinkedList<Integer> second = new MyLinkedList<>();
+        MyArrayList<Integer> empty = new MyArrayList<>();
+        for (int value : new int[] {1, 4, 7, 10}) {
+            first.add(value);
+        }
+        for (int value : new int[] {2, 4, 5, 11, 12}) {
+            second.add(value);
+        }
+        sources.add(first);
+        sources.add(empty);
+        sources.add(second);
+        
+        // Test a full merge of sorted lists
+        System.out.print("Merged:");
+        MyMergingIterator<Integer> merged = new MyMergingIterator<>(sources);
+        while (merged.hasNext()) {
+            System.out.print(" " + merged.next());
+        }
+        System.out.println();
+        
+        // Test stopping early
+        System.out.print("First 3:");
+        merged = new MyMergingIterator<>(sources);
+        for (int i = 0; i < 3 && merged.hasNext(); i++) {
+            System.out.print(" " + merged.next());
+        }
+        System.out.println();
+        
+        // Test merging iterators sorted in descending order
+        MyArrayList<Iterator<String>> words = new MyArrayList<>();
+        words.add(Arrays.asList("pear", "fig", "apple").iterator());
+        words.add(Arrays.asList("plum", "kiwi", "date").iterator());
+        System.out.print("Descending words:");
+        MyMergingIterator<String> descending = MyMergingIterator.ofIterators(words, Comparator.<String>reverseOrder());
+        while (descending.hasNext()) {
+            System.out.print(" " + descending.next());
+        }
+        System.out.println();
+    }
+    
+    // Test MyTimerWheel
+    private static void testMyTimerWheel() {
+        System.out.println("\n=== Testing MyTimerWheel ===");
+        MyTimerWheel<String> wheel = new MyTimerWheel<>(10, 0);
+        
+        // Test schedule, including a deadline beyond the wheel's range
+        wheel.schedule(25, "a");
+        MyTimerWheel.Timeout<String> cancelled = wheel.schedule(40, "b");
+        wheel.schedule(1000, "c");
+        wheel.schedule(500_000_000L, "far");
+        System.out.println("Pending: " + wheel.size());
+        
+        // Test cancel
+        System.out.println("Cancel b: " + wheel.cancel(cancelled));
+        System.out.println("Cancel b again: " + wheel.cancel(cancelled));
+        
+        // Test advanceTo; deadlines are rounded up to whole ticks
+        printList("Expired at 25", wheel.advanceTo(25));
+        printList("Expired at 30", wheel.advanceTo(30));
+        printList("Expired at 1000", wheel.advanceTo(1000));
+        wheel.schedule(5, "late");
+        printList("Expired at 1001", wheel.advanceTo(1001));
+        printList("Expired at 500000000", wheel.advanceTo(500_000_000L));
+        System.out.println("Is empty: " + wheel.isEmpty());
+    }
+    
+    // Test MyMultiQueue
+    private static void testMyMultiQueue() {
+        System.out.println("\n=== Testing MyMultiQueue ===");
+        MyMultiQueue<Integer> queue = new MyMultiQueue<>(4);
+        
+        // Test insert and poll; the order is relaxed, so compare the polled elements as a set
+        for (int i = 1; i <= 20; i++) {
+            queue.insert(i);
+        }
+        System.out.println("Size: " + queue.size());
+        int[] polled = new int[20];
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = queue.poll();
+        }
+        Arrays.sort(polled);
+        System.out.println("Polled elements sorted: " + Arrays.toString(polled));
+        System.out.println("Poll on empty queue: " + queue.poll());
+        
+        // Test concurrent inserts and polls
+        MyMultiQueue<Integer> shared = new MyMultiQueue<>(8);
+        long[] sums = new long[4];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    shared.insert(i);
+                    // A poll racing with other threads may miss elements, so retry
+                    Integer item;
+                    while ((item = shared.poll()) == null) {
+                        Thread.yield();
+                    }
+                    sums[id] += item;
+                }
+            });
+            threads[t].start();
+        }
+        long total = 0;
+        for (int t = 0; t < threads.length; t++) {
+            try {
+                threads[t].join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            total += sums[t];
+        }
+        System.out.println("Concurrent sum of polled elements: " + total + " (expected " + 4 * 500500 + ")");
+        System.out.println("Is empty: " + shared.isEmpty());
+    }
+    
+    // Test MyPairingHeap
+    private static void testMyPairingHeap() {
+        System.out.println("\n=== Testing MyPairingHeap ===");
+        MyPairingHeap<Integer> heap = new MyPairingHeap<>();
+        MyPairingHeap<Integer> other = new MyPairingHeap<>();
+        
+        // Test insert and peek
+        MyPairingHeap.MyNode<Integer> node = null;
+        for (int value : new int[] {30, 10, 50, 20}) {
+            MyPairingHeap.MyNode<Integer> inserted = heap.insert(value);
+            if (value == 50) {
+                node = inserted;
+            }
+        }
+        for (int value : new int[] {40, 15, 60}) {
+            other.insert(value);
+        }
+        System.out.println("Minimum element: " + heap.peek());
+        
+        // Test meld
+        heap.meld(other);
+        System.out.println("Size after meld: " + heap.size() + ", other size: " + other.size());
+        
+        // Test decreaseKey
+        heap.decreaseKey(node, 5);
+        System.out.println("Minimum after decreasing 50 to 5: " + heap.peek());
+        
+        // Test extractMin
+        System.out.print("Elements extracted in order: ");
+        while (!heap.isEmpty()) {
+            System.out.print(heap.extractMin() + " ");
+        }
+        System.out.println();
+
+        // Test that stale nodes are rejected after clear, extractMin and meld
+        MyPairingHeap.MyNode<Integer> cleared = heap.insert(7);
+        heap.clear();
+        heap.insert(100);
+        heap.insert(200);
+        printDecreaseKey("decreaseKey on a cleared node", heap, cleared);
+        MyPairingHeap.MyNode<Integer> extracted = heap.insert(1);
+        heap.extractMin();
+        printDecreaseKey("decreaseKey on an extracted node", heap, extracted);
+        MyPairingHeap.MyNode<Integer> moved = other.insert(300);
+        heap.meld(other);
+        printDecreaseKey("decreaseKey on the melded source heap", other, moved);
+        heap.decreaseKey(moved, 50);
+        System.out.print("After decreasing the melded node to 50: ");
+        while (!heap.isEmpty()) {
+            System.out.print(heap.extractMin() + " ");
+        }
+        System.out.println();
+    }
+
+    // Helper method to build {key, original index} pairs mixing ascending runs, descending
+    // runs and random stretches, with keys drawn from a small range so that many are equal
+    private static MyArrayList<int[]> buildSortInput(int size, long seed) {
+        Random random = new Random(seed);
+        MyArrayList<int[]> list = new MyArrayList<>();
+        while (list.size() < size) {
+            int length = Math.min(1 + random.nextInt(200), size - list.size());
+            int key = random.nextInt(100);
+            int kind = random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                if (kind == 0) {
+                    key += random.nextInt(2); // Ascending, with repeats
+                } else if (kind == 1) {
+                    key -= random.nextInt(2); // Descending, with repeats
+                } else {
+                    key = random.nextInt(100);
+                }
+                list.add(new int[] {key, list.size()});
+            }
+        }
+        return list;
+    }
+
+    // Helper method to check that a list sorted by key holds the expected keys and keeps
+    // equal keys in their original order
+    private static boolean isStableSort(MyArrayList<int[]> list, int[] expectedKeys) {
+        if (list.size() != expectedKeys.length) {
+            return false;
+        }
+        for (int i = 0; i < expectedKeys.length; i++) {
+            int[] entry = list.get(i);
+            if (entry[0] != expectedKeys[i]) {
+                return false;
+            }
+            if (i > 0 && entry[0] == list.get(i - 1)[0] && entry[1] < list.get(i - 1)[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper method to report whether decreaseKey accepts a node
+    private static void printDecreaseKey(String message, MyPairingHeap<Integer> heap,
+                                         MyPairingHeap.MyNode<Integer> node) {
+        try {
+            heap.decreaseKey(node, 0);
+            System.out.println(message + ": accepted");
+        } catch (NoSuchElementException e) {
+            System.out.println(message + ": NoSuchElementException");
+        }
     }
     
     // Helper method to print a list
@@ -1,14 +1,22 @@
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Custom ArrayList implementation that dynamically resizes as elements are added.
+ * Elements are stored in a circular buffer starting at a head offset, so adding and
+ * removing at either end is amortized O(1) and indexed access stays O(1).
  * @param <T> the type of elements in this list
  */
 public class MyArrayList<T> implements MyList<T> {
     private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 1 << 16;
     private Object[] elements;
+    private int head; // Physical index of the first element
     private int size;
+    private Object[] sortBuffer; // Scratch space reused across calls to sort
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
 
     /**
     //Constructs an empty list with an initial capacity of 10.
@@ -38,8 +46,92 @@ public class MyArrayList<T> implements MyList<T> {
         if (minCapacity > elements.length) {
             int newCapacity = Math.max(elements.length * 2, minCapacity);
             Object[] newElements = new Object[newCapacity];
-            System.arraycopy(elements, 0, newElements, 0, size);
+            copyTo(newElements);
             elements = newElements;
+            head = 0;
+        }
+    }
+
+    /**
+     * Returns the position in the backing array of the element at the specified index.
+     * @param index index of the element, between 0 and the capacity of this list
+     * @return the physical position of the element
+     */
+    private int physical(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    /**
+     * Copies the elements of this list, in order, to the start of the given array.
+     * @param dest the array to copy to
+     */
+    private void copyTo(Object[] dest) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, dest, 0, firstPart);
+        System.arraycopy(elements, 0, dest, firstPart, size - firstPart);
+    }
+
+    /**
+     * Moves a range of elements by one position, splitting the copy where it wraps around.
+     * @param from index of the first element to move
+     * @param to index the first element is moved to
+     * @param length number of elements to move
+     */
+    private void moveRange(int from, int to, int length) {
+        int capacity = elements.length;
+        if (to < from) {
+            // Copy front to back so that no element is overwritten before it is moved
+            int done = 0;
+            while (done < length) {
+                int src = physical(from + done);
+                int dest = physical(to + done);
+                int chunk = Math.min(length - done, Math.min(capacity - src, capacity - dest));
+                System.arraycopy(elements, src, elements, dest, chunk);
+                done += chunk;
+            }
+        } else {
+            // Copy back to front so that no element is overwritten before it is moved
+            int remaining = length;
+            while (remaining > 0) {
+                int src = physical(from + remaining - 1);
+                int dest = physical(to + remaining - 1);
+                int chunk = Math.min(remaining, Math.min(src + 1, dest + 1));
+                System.arraycopy(elements, src - chunk + 1, elements, dest - chunk + 1, chunk);
+                remaining -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Rotates the backing array in place so that the first element is at position 0.
+     */
+    private void linearize() {
+        if (head == 0) {
+            return;
+        }
+        if (head + size <= elements.length) {
+            System.arraycopy(elements, head, elements, 0, size);
+            for (int i = Math.max(size, head); i < head + size; i++) {
+                elements[i] = null;
+            }
+        } else {
+            reverse(0, head);
+            reverse(head, elements.length);
+            reverse(0, elements.length);
+        }
+        head = 0;
+    }
+
+    /**
+     * Reverses the positions [from, to) of the backing array.
+     */
+    private void reverse(int from, int to) {
+        to--;
+        while (from < to) {
+            Object temp = elements[from];
+            elements[from++] = elements[to];
+            elements[to--] = temp;
         }
     }
 
@@ -50,7 +142,8 @@ public class MyArrayList<T> implements MyList<T> {
     @Override
     public void add(T item) {
         ensureCapacity(size + 1);
-        elements[size++] = item;
+        elements[physical(size)] = item;
+        size++;
     }
 
     /**
@@ -63,11 +156,12 @@ public class MyArrayList<T> implements MyList<T> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        elements[index] = item;
+        elements[physical(index)] = item;
     }
 
     /**
      * Inserts the specified element at the specified position in this list.
+     * Elements are shifted toward whichever end of the list is closer.
      * @param index index at which the specified element is to be inserted
      * @param item element to be inserted
      */
@@ -77,8 +171,14 @@ public class MyArrayList<T> implements MyList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         ensureCapacity(size + 1);
-        System.arraycopy(elements, index, elements, index + 1, size - index);
-        elements[index] = item;
+        if (index < size / 2) {
+            // Shift the front part one position toward the head
+            head = (head == 0 ? elements.length : head) - 1;
+            moveRange(1, 0, index);
+        } else {
+            moveRange(index, index + 1, size - index);
+        }
+        elements[physical(index)] = item;
         size++;
     }
 
@@ -111,7 +211,7 @@ public class MyArrayList<T> implements MyList<T> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        return (T) elements[index];
+        return (T) elements[physical(index)];
     }
 
     /**
@@ -147,8 +247,16 @@ public class MyArrayList<T> implements MyList<T> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
-        elements[--size] = null; // Let GC do its work
+        if (index < size / 2) {
+            // Shift the front part one position toward the tail
+            moveRange(0, 1, index);
+            elements[head] = null; // Let GC do its work
+            head = (head + 1 == elements.length) ? 0 : head + 1;
+        } else {
+            moveRange(index + 1, index, size - index - 1);
+            elements[physical(size - 1)] = null; // Let GC do its work
+        }
+        size--;
     }
 
     /**
@@ -180,22 +288,84 @@ public class MyArrayList<T> implements MyList<T> {
     @Override
     @SuppressWarnings("unchecked")
     public void sort() {
+        sort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * The sort is stable and runs in O(n log n), or close to O(n) on partially sorted input.
+     * @param comparator the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
         if (size <= 1) {
             return;
         }
-        
-        // Simple insertion sort
-        for (int i = 1; i < size; i++) {
-            T key = (T) elements[i];
-            int j = i - 1;
-            
-            // Move elements that are greater than key to one position ahead
-            while (j >= 0 && ((Comparable<T>) elements[j]).compareTo(key) > 0) {
-                elements[j + 1] = elements[j];
-                j = j - 1;
-            }
-            elements[j + 1] = key;
+        linearize();
+        sortBuffer = MyTimSort.sort(elements, 0, size, comparator, sortBuffer);
+    }
+
+    /**
+     * Sorts this list according to the natural ordering of its elements, using the
+     * common fork-join pool when the list is at least as large as the parallel sort threshold.
+     * Elements must implement Comparable interface.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort() {
+        parallelSort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator, using the
+     * common fork-join pool when the list is at least as large as the parallel sort threshold.
+     * The sort is stable.
+     * @param comparator the comparator used to compare list elements
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts this list on the given pool, falling back to a sequential sort for small lists.
+     * @param comparator the comparator used to compare list elements
+     * @param pool the pool to run the sort on
+     */
+    void parallelSort(Comparator<? super T> comparator, ForkJoinPool pool) {
+        if (size < parallelSortThreshold || pool.getParallelism() <= 1) {
+            sort(comparator);
+            return;
+        }
+
+        linearize();
+        if (sortBuffer == null || sortBuffer.length < size) {
+            sortBuffer = new Object[size];
+        }
+        MyParallelSort.sort(elements, size, comparator, sortBuffer, pool);
+
+        // Clear to let GC do its work
+        for (int i = 0; i < size; i++) {
+            sortBuffer[i] = null;
+        }
+    }
+
+    /**
+     * Returns the minimum size at which parallelSort splits work across threads.
+     * @return the parallel sort threshold
+     */
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    /**
+     * Sets the minimum size at which parallelSort splits work across threads.
+     * Smaller lists are sorted sequentially.
+     * @param threshold the parallel sort threshold
+     */
+    public void setParallelSortThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Illegal threshold: " + threshold);
         }
+        parallelSortThreshold = threshold;
     }
 
     /**
@@ -207,13 +377,13 @@ public class MyArrayList<T> implements MyList<T> {
     public int indexOf(Object object) {
         if (object == null) {
             for (int i = 0; i < size; i++) {
-                if (elements[i] == null) {
+                if (elements[physical(i)] == null) {
                     return i;
                 }
             }
         } else {
             for (int i = 0; i < size; i++) {
-                if (object.equals(elements[i])) {
+                if (object.equals(elements[physical(i)])) {
                     return i;
                 }
             }
@@ -230,13 +400,13 @@ public class MyArrayList<T> implements MyList<T> {
     public int lastIndexOf(Object object) {
         if (object == null) {
             for (int i = size - 1; i >= 0; i--) {
-                if (elements[i] == null) {
+                if (elements[physical(i)] == null) {
                     return i;
                 }
             }
         } else {
             for (int i = size - 1; i >= 0; i--) {
-                if (object.equals(elements[i])) {
+                if (object.equals(elements[physical(i)])) {
                     return i;
                 }
             }
@@ -261,7 +431,7 @@ public class MyArrayList<T> implements MyList<T> {
     @Override
     public Object[] toArray() {
         Object[] result = new Object[size];
-        System.arraycopy(elements, 0, result, 0, size);
+        copyTo(result);
         return result;
     }
 
@@ -272,9 +442,11 @@ public class MyArrayList<T> implements MyList<T> {
     public void clear() {
         // Clear to let GC do its work
         for (int i = 0; i < size; i++) {
-            elements[i] = null;
+            elements[physical(i)] = null;
         }
+        head = 0;
         size = 0;
+        sortBuffer = null;
     }
 
     /**
@@ -306,7 +478,7 @@ public class MyArrayList<T> implements MyList<T> {
                 if (!hasNext()) {
                     throw new NoSuchElementException();
                 }
-                return (T) elements[currentIndex++];
+                return (T) elements[physical(currentIndex++)];
             }
 
             @Override
@@ -0,0 +1,299 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded blocking queue backed by a circular array buffer.
+ * Producers block when the queue is full and consumers block when it is empty, so a
+ * fast producer is slowed down instead of growing the queue without limit. Waiting
+ * uses a ReentrantLock and its conditions rather than synchronized, so virtual threads
+ * that block here unmount from their carrier thread instead of pinning it.
+ * @param <T> the type of elements in this queue
+ */
+public class MyBlockingQueue<T> {
+    private final Object[] elements;
+    private int head; // Position of the front element
+    private int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Constructs an empty queue with the specified fixed capacity.
+     * @param capacity the maximum number of elements the queue can hold
+     */
+    public MyBlockingQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        elements = new Object[capacity];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds an element at the rear. Must be called while holding the lock with room available.
+     * @param item the element to add
+     */
+    private void enqueue(T item) {
+        int tail = head + size;
+        if (tail >= elements.length) {
+            tail -= elements.length;
+        }
+        elements[tail] = item;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the front element. Must be called while holding the lock with an element available.
+     * @return the front element
+     */
+    @SuppressWarnings("unchecked")
+    private T dequeue() {
+        T item = (T) elements[head];
+        elements[head] = null; // Let GC do its work
+        head = (head + 1 == elements.length) ? 0 : head + 1;
+        size--;
+        notFull.signal();
+        return item;
+    }
+
+    /**
+     * Inserts the specified element, waiting if necessary for space to become available.
+     * @param item the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T item) throws InterruptedException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                notFull.await();
+            }
+            enqueue(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element if there is room, without waiting.
+     * @param item the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            if (size == elements.length) {
+                return false;
+            }
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element, waiting up to the specified time for space to become available.
+     * @param item the element to add
+     * @param timeout how long to wait before giving up, in units of unit
+     * @param unit the unit of the timeout
+     * @return true if the element was added, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting if necessary for an element.
+     * @return the head of this queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, without waiting.
+     * @return the head of this queue, or null if it is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return (size == 0) ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the specified time for an element.
+     * @param timeout how long to wait before giving up, in units of unit
+     * @param unit the unit of the timeout
+     * @return the head of this queue, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue.
+     * @return the head of this queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException("Queue is empty");
+            }
+            return (T) elements[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to maxElements elements and appends them to the target list in order,
+     * taking the lock once for the whole batch and waking all waiting producers.
+     * If adding to the target throws, the elements already transferred stay removed
+     * and the element that failed stays in the queue.
+     * @param target the list to add the elements to
+     * @param maxElements the maximum number of elements to transfer
+     * @return the number of elements transferred
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(MyList<? super T> target, int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + maxElements);
+        }
+        int removed = 0;
+        lock.lock();
+        try {
+            int count = Math.min(maxElements, size);
+            while (removed < count) {
+                target.add((T) elements[head]);
+                elements[head] = null; // Let GC do its work
+                head = (head + 1 == elements.length) ? 0 : head + 1;
+                size--;
+                removed++;
+            }
+            return removed;
+        } finally {
+            // Wake producers even if target.add threw after freeing some slots
+            if (removed > 0) {
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all available elements and appends them to the target list in order.
+     * @param target the list to add the elements to
+     * @return the number of elements transferred
+     */
+    public int drainTo(MyList<? super T> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tests if this queue is empty.
+     * @return true if this queue contains no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements that can be added without blocking.
+     * @return the remaining capacity of this queue
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return elements.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all of the elements from this queue and wakes all waiting producers.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                int position = head + i;
+                elements[position >= elements.length ? position - elements.length : position] = null;
+            }
+            head = 0;
+            size = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
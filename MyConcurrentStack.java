@@ -0,0 +1,138 @@
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free stack (Treiber stack) with an elimination array, safe for any number of threads.
+ * The stack is a linked list whose top is swapped with a single CAS per push or pop.
+ * Under contention those CASes keep failing, so a thread whose CAS fails tries the
+ * elimination array instead. A pusher leaves its node in a random slot and waits
+ * briefly. A popper that finds a node in a slot takes it. The pair cancels out
+ * without touching the top pointer, so colliding pushes and pops scale instead of
+ * queueing up on one cache line.
+ * @param <T> the type of elements in this stack
+ */
+public class MyConcurrentStack<T> {
+    // Slots are spaced 16 references (at least 64 bytes) apart so they never share a cache line
+    private static final int PAD = 16;
+    private static final int ELIMINATION_SLOTS = Math.min(Runtime.getRuntime().availableProcessors(), 32);
+    private static final int SPIN_TRIES = 64; // How long a pusher waits in a slot for a popper
+
+    private static final class Node<T> {
+        final T item;
+        Node<T> next;
+
+        Node(T item) {
+            this.item = item;
+        }
+    }
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationSlots =
+            new AtomicReferenceArray<>((ELIMINATION_SLOTS + 1) * PAD);
+
+    /**
+     * Constructs an empty stack.
+     */
+    public MyConcurrentStack() {
+    }
+
+    /**
+     * Pushes an item onto the top of this stack.
+     * @param item the item to be pushed onto this stack
+     */
+    public void push(T item) {
+        Node<T> node = new Node<>(item);
+        while (true) {
+            Node<T> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                return;
+            }
+            if (tryEliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the object at the top of this stack and returns it.
+     * @return the object at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public T pop() {
+        while (true) {
+            Node<T> current = top.get();
+            if (current == null) {
+                throw new EmptyStackException();
+            }
+            if (top.compareAndSet(current, current.next)) {
+                current.next = null; // Let GC do its work
+                return current.item;
+            }
+            Node<T> eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                return eliminated.item;
+            }
+        }
+    }
+
+    /**
+     * Looks at the object at the top of this stack without removing it.
+     * @return the object at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public T peek() {
+        Node<T> current = top.get();
+        if (current == null) {
+            throw new EmptyStackException();
+        }
+        return current.item;
+    }
+
+    /**
+     * Tests if this stack is empty.
+     * @return true if this stack contains no items; false otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Offers the node to a popper through a random elimination slot.
+     * @param node the node being pushed
+     * @return true if a popper took the node
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = randomSlot();
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw the offer; if that fails, a popper took the node just now
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node offered by a pusher from a random elimination slot.
+     * @return the node, or null if the slot held none
+     */
+    private Node<T> tryEliminatePop() {
+        int slot = randomSlot();
+        Node<T> node = eliminationSlots.get(slot);
+        if (node != null && eliminationSlots.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+    private int randomSlot() {
+        return (ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS) + 1) * PAD;
+    }
+}
@@ -0,0 +1,422 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Custom list implementation based on an indexable skip list.
+ * Every forward link also records its width, the number of positions it skips, so
+ * positional access, insertion and removal take O(log n) expected time. The bottom
+ * level is doubly linked and keeps the list order for iteration.
+ * @param <T> the type of elements in this list
+ */
+public class MyIndexableSkipList<T> implements MyList<T> {
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * Node class for the skip list. A node on level k has links on levels 0 to k - 1.
+     */
+    private static final class MyNode<T> {
+        T element;
+        final MyNode<T>[] next;
+        final int[] width;
+        MyNode<T> prev;
+
+        @SuppressWarnings("unchecked")
+        MyNode(T element, int level) {
+            this.element = element;
+            this.next = (MyNode<T>[]) new MyNode<?>[level];
+            this.width = new int[level];
+        }
+    }
+
+    private final MyNode<T> head; // Sentinel before the first element, at position -1
+    private MyNode<T> tail;
+    private int level;
+    private int size;
+
+    // Predecessors and their positions on each level, reused across updates
+    private final MyNode<T>[] update;
+    private final int[] rank;
+
+    /**
+     * Constructs an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public MyIndexableSkipList() {
+        head = new MyNode<>(null, MAX_LEVEL);
+        update = (MyNode<T>[]) new MyNode<?>[MAX_LEVEL];
+        rank = new int[MAX_LEVEL];
+        clear();
+    }
+
+    /**
+     * Returns a random level where each level is half as likely as the one below it.
+     * @return a level between 1 and MAX_LEVEL
+     */
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Integer.numberOfTrailingZeros(bits) + 1;
+    }
+
+    /**
+     * Returns the node at the specified position in this list.
+     * @param index index of the node to return
+     * @return the node at the specified position in this list
+     */
+    private MyNode<T> getNode(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        MyNode<T> current = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.next[l] != null && position + current.width[l] <= index) {
+                position += current.width[l];
+                current = current.next[l];
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Fills update and rank with the last node before the specified position on each level.
+     * @param index the position to search for
+     */
+    private void findPredecessors(int index) {
+        MyNode<T> current = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.next[l] != null && position + current.width[l] < index) {
+                position += current.width[l];
+                current = current.next[l];
+            }
+            update[l] = current;
+            rank[l] = position;
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param item element to be appended to this list
+     */
+    @Override
+    public void add(T item) {
+        add(size, item);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     * @param index index of the element to replace
+     * @param item element to be stored at the specified position
+     */
+    @Override
+    public void set(int index, T item) {
+        getNode(index).element = item;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * @param index index at which the specified element is to be inserted
+     * @param item element to be inserted
+     */
+    @Override
+    public void add(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            // New levels start with a single link from the head to the end of the list
+            for (int l = level; l < nodeLevel; l++) {
+                head.next[l] = null;
+                head.width[l] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        findPredecessors(index);
+        MyNode<T> newNode = new MyNode<>(item, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            MyNode<T> before = update[l];
+            newNode.next[l] = before.next[l];
+            newNode.width[l] = rank[l] + before.width[l] + 1 - index;
+            before.next[l] = newNode;
+            before.width[l] = index - rank[l];
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].width[l]++;
+        }
+
+        newNode.prev = (update[0] == head) ? null : update[0];
+        if (newNode.next[0] != null) {
+            newNode.next[0].prev = newNode;
+        } else {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     * @param item element to be inserted at the beginning of this list
+     */
+    @Override
+    public void addFirst(T item) {
+        add(0, item);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param item element to be appended to this list
+     */
+    @Override
+    public void addLast(T item) {
+        add(size, item);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        return getNode(index).element;
+    }
+
+    /**
+     * Returns the first element in this list.
+     * @return the first element in this list
+     */
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return head.next[0].element;
+    }
+
+    /**
+     * Returns the last element in this list.
+     * @return the last element in this list
+     */
+    @Override
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * @param index the index of the element to be removed
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        findPredecessors(index);
+        MyNode<T> node = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            MyNode<T> before = update[l];
+            if (before.next[l] == node) {
+                before.width[l] += node.width[l] - 1;
+                before.next[l] = node.next[l];
+            } else {
+                before.width[l]--;
+            }
+        }
+
+        if (node.next[0] != null) {
+            node.next[0].prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    /**
+     * Removes the first element from this list.
+     */
+    @Override
+    public void removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the last element from this list.
+     */
+    @Override
+    public void removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        remove(size - 1);
+    }
+
+    /**
+     * Sorts this list according to the natural ordering of its elements.
+     * Elements must implement Comparable interface.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        sort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * The sort is stable. Only elements move, so the skip list links are left as they are.
+     * @param comparator the comparator used to compare list elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        if (size <= 1) {
+            return;
+        }
+
+        Object[] array = toArray();
+        MyTimSort.sort(array, 0, array.length, comparator, null);
+
+        MyNode<T> current = head.next[0];
+        for (Object o : array) {
+            current.element = (T) o;
+            current = current.next[0];
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list.
+     * @param object element to search for
+     * @return the index of the first occurrence of the specified element, or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        int index = 0;
+        for (MyNode<T> current = head.next[0]; current != null; current = current.next[0]) {
+            if (object == null ? current.element == null : object.equals(current.element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list.
+     * @param object element to search for
+     * @return the index of the last occurrence of the specified element, or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        int index = size - 1;
+        for (MyNode<T> current = tail; current != null; current = current.prev) {
+            if (object == null ? current.element == null : object.equals(current.element)) {
+                return index;
+            }
+            index--;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     * @param object element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    @Override
+    public boolean exists(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list.
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        MyNode<T> current = head.next[0];
+        for (int i = 0; i < size; i++) {
+            result[i] = current.element;
+            current = current.next[0];
+        }
+        return result;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = null;
+            head.width[l] = 1;
+            update[l] = null;
+        }
+        tail = null;
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list.
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private MyNode<T> current = head.next[0];
+            private int nextIndex = 0;
+            private boolean canRemove = false;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T element = current.element;
+                current = current.next[0];
+                nextIndex++;
+                canRemove = true;
+                return element;
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                MyIndexableSkipList.this.remove(--nextIndex);
+                canRemove = false;
+            }
+        };
+    }
+}
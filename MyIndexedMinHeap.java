@@ -0,0 +1,303 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed Min Heap implementation for algorithms that change priorities in place,
+ * such as Dijkstra's or A* search.
+ * Each insert returns an int handle for the element. A side array maps every handle to
+ * its current position in the heap and is updated whenever an element moves. That lets
+ * decreaseKey and remove find the element directly and run in O(log n).
+ * Handles are reused once their element has left the heap.
+ */
+public class MyIndexedMinHeap<T extends Comparable<T>> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap; // Handles in heap order
+    private Object[] keys; // Elements by handle
+    private int[] positions; // Heap position by handle, or -1 if the handle is free
+    private int size;
+
+    private int[] freeHandles; // Stack of released handles
+    private int freeCount;
+    private int handleCount; // Number of handles ever issued
+
+    // Constructor
+    public MyIndexedMinHeap() {
+        heap = new int[DEFAULT_CAPACITY];
+        keys = new Object[DEFAULT_CAPACITY];
+        positions = new int[DEFAULT_CAPACITY];
+        freeHandles = new int[DEFAULT_CAPACITY];
+        size = 0;
+        freeCount = 0;
+        handleCount = 0;
+    }
+
+    /**
+     * Returns a free handle, growing the arrays if every handle is in use.
+     *
+     * @return the handle
+     */
+    private int allocateHandle() {
+        if (freeCount > 0) {
+            return freeHandles[--freeCount];
+        }
+        if (handleCount == keys.length) {
+            int newCapacity = keys.length * 2;
+            heap = Arrays.copyOf(heap, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+        }
+        return handleCount++;
+    }
+
+    /**
+     * Marks the handle as free so it can be issued again.
+     *
+     * @param handle the handle to release
+     */
+    private void releaseHandle(int handle) {
+        keys[handle] = null; // Let GC do its work
+        positions[handle] = -1;
+        freeHandles[freeCount++] = handle;
+    }
+
+    /**
+     * Inserts an item into the heap.
+     *
+     * @param item the item to be inserted
+     * @return the handle identifying the item while it is in the heap
+     */
+    public int insert(T item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        int handle = allocateHandle();
+        keys[handle] = item;
+        siftUp(size++, handle);
+        return handle;
+    }
+
+    /**
+     * Returns the minimum element without removing it.
+     *
+     * @return the minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return (T) keys[heap[0]];
+    }
+
+    /**
+     * Returns the handle of the minimum element without removing it.
+     *
+     * @return the handle of the minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekHandle() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the minimum element. Its handle becomes invalid.
+     *
+     * @return the minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T extractMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return remove(heap[0]);
+    }
+
+    /**
+     * Lowers the key of the element with the given handle and moves it up as needed.
+     *
+     * @param handle the handle returned by insert
+     * @param newKey the new key, which must not be greater than the current one
+     * @throws NoSuchElementException if the handle is not in the heap
+     * @throws IllegalArgumentException if the new key is greater than the current key
+     */
+    @SuppressWarnings("unchecked")
+    public void decreaseKey(int handle, T newKey) {
+        checkHandle(handle);
+        if (newKey.compareTo((T) keys[handle]) > 0) {
+            throw new IllegalArgumentException("New key is greater than current key");
+        }
+        keys[handle] = newKey;
+        siftUp(positions[handle], handle);
+    }
+
+    /**
+     * Removes the element with the given handle. The handle becomes invalid.
+     *
+     * @param handle the handle returned by insert
+     * @return the removed element
+     * @throws NoSuchElementException if the handle is not in the heap
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int handle) {
+        checkHandle(handle);
+        T item = (T) keys[handle];
+        int position = positions[handle];
+
+        // Fill the hole with the last handle and move it whichever way it needs to go
+        int last = heap[--size];
+        if (position < size) {
+            siftUp(position, last);
+            if (positions[last] == position) {
+                siftDown(position, last);
+            }
+        }
+        releaseHandle(handle);
+        return item;
+    }
+
+    /**
+     * Returns the element with the given handle.
+     *
+     * @param handle the handle returned by insert
+     * @return the element
+     * @throws NoSuchElementException if the handle is not in the heap
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        checkHandle(handle);
+        return (T) keys[handle];
+    }
+
+    /**
+     * Returns true if the handle refers to an element that is still in the heap.
+     *
+     * @param handle the handle to test
+     * @return true if the handle is in the heap
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleCount && positions[handle] >= 0;
+    }
+
+    /**
+     * Returns true if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the heap. All handles become invalid.
+     */
+    public void clear() {
+        // Clear to let GC do its work
+        for (int i = 0; i < handleCount; i++) {
+            keys[i] = null;
+        }
+        size = 0;
+        freeCount = 0;
+        handleCount = 0;
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException("Handle not in heap: " + handle);
+        }
+    }
+
+    /**
+     * Moves the hole at the given index up until the handle can be placed in it
+     * without violating the min heap property.
+     *
+     * @param index the index of the hole
+     * @param handle the handle to place
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, int handle) {
+        T item = (T) keys[handle];
+        while (index > 0) {
+            int parentIndex = getParentIndex(index);
+            int parent = heap[parentIndex];
+            if (((T) keys[parent]).compareTo(item) <= 0) {
+                break;
+            }
+
+            // Move the parent down into the hole
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = handle;
+        positions[handle] = index;
+    }
+
+    /**
+     * Moves the hole at the given index down until the handle can be placed in it
+     * without violating the min heap property.
+     *
+     * @param index the index of the hole
+     * @param handle the handle to place
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, int handle) {
+        T item = (T) keys[handle];
+        int leftChildIndex;
+        while ((leftChildIndex = getLeftChildIndex(index)) < size) {
+            // Pick the smaller of the two children
+            int minIndex = leftChildIndex;
+            int rightChildIndex = leftChildIndex + 1;
+            if (rightChildIndex < size
+                    && ((T) keys[heap[rightChildIndex]]).compareTo((T) keys[heap[leftChildIndex]]) < 0) {
+                minIndex = rightChildIndex;
+            }
+
+            int minChild = heap[minIndex];
+            if (item.compareTo((T) keys[minChild]) <= 0) {
+                break;
+            }
+
+            // Move the smaller child up into the hole
+            heap[index] = minChild;
+            positions[minChild] = index;
+            index = minIndex;
+        }
+        heap[index] = handle;
+        positions[handle] = index;
+    }
+
+    /**
+     * Returns the index of the parent of the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the index of the parent
+     */
+    private int getParentIndex(int index) {
+        return (index - 1) / 2;
+    }
+
+    /**
+     * Returns the index of the left child of the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the index of the left child
+     */
+    private int getLeftChildIndex(int index) {
+        return 2 * index + 1;
+    }
+}
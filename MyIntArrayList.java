@@ -0,0 +1,266 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Custom ArrayList of primitive int values that dynamically resizes as elements are added.
+ * Values are stored unboxed in an int[], so each element costs 4 bytes instead of a
+ * reference plus an Integer object, and reads need no pointer chase. Searches compare
+ * with ==, which for int is the same as Integer.equals.
+ */
+public class MyIntArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of 10.
+     */
+    public MyIntArrayList() {
+        elements = new int[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     * @param initialCapacity the initial capacity of the list
+     */
+    public MyIntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Creates a list holding the values of the given list, in order.
+     * @param list the list to copy; must not contain null
+     * @return a new list with the unboxed values
+     */
+    public static MyIntArrayList from(MyList<Integer> list) {
+        MyIntArrayList result = new MyIntArrayList(list.size());
+        for (Integer value : list) {
+            result.elements[result.size++] = value;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a MyArrayList holding the boxed values of this list, in order.
+     * @return a new list with the boxed values
+     */
+    public MyArrayList<Integer> toList() {
+        MyArrayList<Integer> result = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary.
+     * @param minCapacity the desired minimum capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(elements.length * 2, minCapacity);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     * @param value value to be appended to this list
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Replaces the value at the specified position in this list with the specified value.
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     */
+    public void set(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        elements[index] = value;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the beginning of this list.
+     * @param value value to be inserted at the beginning of this list
+     */
+    public void addFirst(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     * @param value value to be appended to this list
+     */
+    public void addLast(int value) {
+        add(value);
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * Returns the first value in this list.
+     * @return the first value in this list
+     */
+    public int getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * Returns the last value in this list.
+     * @return the last value in this list
+     */
+    public int getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * @param index the index of the value to be removed
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Removes the first value from this list.
+     */
+    public void removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the last value from this list.
+     */
+    public void removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+    }
+
+    /**
+     * Sorts this list into ascending numerical order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list.
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value, or -1 if not found
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in this list.
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value, or -1 if not found
+     */
+    public int lastIndexOf(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     * @param value value whose presence in this list is to be tested
+     * @return true if this list contains the specified value
+     */
+    public boolean exists(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns an array containing all of the values in this list.
+     * @return an array containing all of the values in this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Removes all of the values from this list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order, without boxing.
+     * @param action the action to be performed for each value
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -24,6 +25,8 @@ public class MyLinkedList<T> implements MyList<T> {
     private MyNode head;
     private MyNode tail;
     private int size;
+    private MyNode finger; // Node most recently reached by getNode, or null
+    private int fingerIndex; // Index of the finger node
 
     /**
      * Constructs an empty list.
@@ -36,6 +39,8 @@ public class MyLinkedList<T> implements MyList<T> {
 
     /**
      * Returns the node at the specified position in this list.
+     * The walk starts from the head, the tail or the finger, whichever is closest,
+     * and the finger is left on the returned node so that sequential access is cheap.
      * @param index index of the node to return
      * @return the node at the specified position in this list
      */
@@ -44,8 +49,21 @@ public class MyLinkedList<T> implements MyList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
+        int fromHead = index;
+        int fromTail = size - 1 - index;
+        int fromFinger = (finger == null) ? size : Math.abs(index - fingerIndex);
+        
         MyNode current;
-        if (index < size / 2) {
+        if (fromFinger < fromHead && fromFinger < fromTail) {
+            // Search from the finger
+            current = finger;
+            for (int i = fingerIndex; i < index; i++) {
+                current = current.next;
+            }
+            for (int i = fingerIndex; i > index; i--) {
+                current = current.prev;
+            }
+        } else if (fromHead <= fromTail) {
             // Search from the beginning
             current = head;
             for (int i = 0; i < index; i++) {
@@ -58,6 +76,8 @@ public class MyLinkedList<T> implements MyList<T> {
                 current = current.prev;
             }
         }
+        finger = current;
+        fingerIndex = index;
         return current;
     }
 
@@ -103,6 +123,8 @@ public class MyLinkedList<T> implements MyList<T> {
             prevNode.next = newNode;
             nextNode.prev = newNode;
             size++;
+            finger = newNode;
+            fingerIndex = index;
         }
     }
 
@@ -120,6 +142,9 @@ public class MyLinkedList<T> implements MyList<T> {
         }
         head = newNode;
         size++;
+        if (finger != null) {
+            fingerIndex++;
+        }
     }
 
     /**
@@ -179,14 +204,27 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public void remove(int index) {
         MyNode nodeToRemove = getNode(index);
-        removeNode(nodeToRemove);
+        removeNode(nodeToRemove, index);
     }
 
     /**
      * Helper method to remove a node from the list.
      * @param node the node to remove
+     * @param index the index of the node
      */
-    private void removeNode(MyNode node) {
+    private void removeNode(MyNode node, int index) {
+        // Keep the finger pointing at a live node with the right index
+        if (node == finger) {
+            if (node.next != null) {
+                finger = node.next;
+            } else {
+                finger = node.prev;
+                fingerIndex--;
+            }
+        } else if (finger != null && index < fingerIndex) {
+            fingerIndex--;
+        }
+
         if (node.prev == null) {
             head = node.next;
         } else {
@@ -211,7 +249,7 @@ public class MyLinkedList<T> implements MyList<T> {
         if (head == null) {
             throw new NoSuchElementException();
         }
-        removeNode(head);
+        removeNode(head, 0);
     }
 
     /**
@@ -222,7 +260,7 @@ public class MyLinkedList<T> implements MyList<T> {
         if (tail == null) {
             throw new NoSuchElementException();
         }
-        removeNode(tail);
+        removeNode(tail, size - 1);
     }
 
     /**
@@ -232,31 +270,128 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     @SuppressWarnings("unchecked")
     public void sort() {
+        sort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * Uses a bottom-up merge sort that relinks the existing nodes, so it runs in
+     * O(n log n) without allocating. The sort is stable. If the comparator throws,
+     * the list still holds every element, in an unspecified order.
+     * @param comparator the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
         if (size <= 1) {
             return;
         }
 
-        // Convert to array, sort, and then back to linked list
-        Object[] array = toArray();
-        
-        // Insertion sort
-        for (int i = 1; i < array.length; i++) {
-            Comparable<T> key = (Comparable<T>) array[i];
-            int j = i - 1;
-            
-            while (j >= 0 && key.compareTo((T) array[j]) < 0) {
-                array[j + 1] = array[j];
-                j--;
+        // Merge runs of width 1, 2, 4, ... using only the next pointers
+        MyNode list = head;
+        MyNode mergedHead = null;
+        MyNode mergedTail = null;
+        MyNode left = null;
+        MyNode right = null;
+        MyNode remaining = null;
+        try {
+            for (int width = 1; width < size; width *= 2) {
+                remaining = list;
+                list = null;
+                mergedHead = null;
+                mergedTail = null;
+
+                while (remaining != null) {
+                    left = remaining;
+                    right = split(left, width);
+                    remaining = split(right, width);
+
+                    // Merge left and right onto the end of the merged list
+                    while (left != null && right != null) {
+                        MyNode next;
+                        if (comparator.compare(right.element, left.element) < 0) {
+                            next = right;
+                            right = right.next;
+                        } else {
+                            next = left;
+                            left = left.next;
+                        }
+                        if (mergedTail == null) {
+                            mergedHead = next;
+                        } else {
+                            mergedTail.next = next;
+                        }
+                        mergedTail = next;
+                    }
+
+                    MyNode rest = (left != null) ? left : right;
+                    left = null;
+                    right = null;
+                    if (mergedTail == null) {
+                        mergedHead = rest;
+                        mergedTail = rest;
+                    } else {
+                        mergedTail.next = rest;
+                    }
+                    while (mergedTail.next != null) {
+                        mergedTail = mergedTail.next;
+                    }
+                }
+                list = mergedHead;
+            }
+        } finally {
+            if (list == null) {
+                // The comparator threw mid-pass; splice the unmerged runs back behind the
+                // merged part so that the list keeps every node, only partly sorted
+                list = mergedHead;
+                MyNode last = mergedTail;
+                for (int i = 0; i < 3; i++) {
+                    MyNode run = (i == 0) ? left : (i == 1) ? right : remaining;
+                    if (run == null) {
+                        continue;
+                    }
+                    if (last == null) {
+                        list = run;
+                    } else {
+                        last.next = run;
+                    }
+                    last = run;
+                    while (last.next != null) {
+                        last = last.next;
+                    }
+                }
+                if (last != null) {
+                    last.next = null;
+                }
             }
-            array[j + 1] = key;
+
+            // Restore the prev pointers and the tail; node positions have changed
+            head = list;
+            finger = null;
+            MyNode prev = null;
+            for (MyNode current = head; current != null; current = current.next) {
+                current.prev = prev;
+                prev = current;
+            }
+            tail = prev;
         }
-        
-        // Copy back to linked list
-        MyNode current = head;
-        for (Object o : array) {
-            current.element = (T) o;
-            current = current.next;
+    }
+
+    /**
+     * Detaches the first count nodes starting at node and returns the node after them.
+     * @param node the first node of the run
+     * @param count the number of nodes to keep in the run
+     * @return the first node after the run, or null if the list ends first
+     */
+    private MyNode split(MyNode node, int count) {
+        for (int i = 1; node != null && i < count; i++) {
+            node = node.next;
+        }
+        if (node == null) {
+            return null;
         }
+        MyNode rest = node.next;
+        node.next = null;
+        return rest;
     }
 
     /**
@@ -352,6 +487,7 @@ public class MyLinkedList<T> implements MyList<T> {
         head = null;
         tail = null;
         size = 0;
+        finger = null;
     }
 
     /**
@@ -372,6 +508,7 @@ public class MyLinkedList<T> implements MyList<T> {
         return new Iterator<T>() {
             private MyNode current = head;
             private MyNode lastReturned = null;
+            private int nextIndex = 0;
 
             @Override
             public boolean hasNext() {
@@ -385,6 +522,7 @@ public class MyLinkedList<T> implements MyList<T> {
                 }
                 lastReturned = current;
                 current = current.next;
+                nextIndex++;
                 return lastReturned.element;
             }
 
@@ -394,7 +532,7 @@ public class MyLinkedList<T> implements MyList<T> {
                     throw new IllegalStateException();
                 }
                 
-                MyLinkedList.this.removeNode(lastReturned);
+                MyLinkedList.this.removeNode(lastReturned, --nextIndex);
                 lastReturned = null;
             }
         };
@@ -0,0 +1,199 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min Heap keyed by primitive long values, such as timestamps or priorities.
+ * Keys and their values are stored in parallel arrays, so inserting allocates no
+ * wrapper object and ordering uses plain long comparisons instead of compareTo calls.
+ */
+public class MyLongMinHeap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    // Constructor
+    public MyLongMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty heap with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the heap
+     */
+    public MyLongMinHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        keys = new long[initialCapacity];
+        values = new Object[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of the heap arrays, if necessary.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > keys.length) {
+            int newCapacity = Math.max(keys.length * 2, minCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    /**
+     * Inserts a value with the given key into the heap.
+     *
+     * @param key the key that orders the value
+     * @param value the value to be inserted
+     */
+    public void insert(long key, V value) {
+        ensureCapacity(size + 1);
+        siftUp(size++, key, value);
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     *
+     * @return the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peekKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Returns the value with the smallest key without removing it.
+     *
+     * @return the value with the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public V peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return (V) values[0];
+    }
+
+    /**
+     * Removes and returns the value with the smallest key.
+     * Call peekKey first if the key is also needed.
+     *
+     * @return the value with the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public V extractMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        V min = (V) values[0];
+
+        // Move the last entry into the hole left at the root
+        size--;
+        long lastKey = keys[size];
+        Object lastValue = values[size];
+        values[size] = null; // Let GC do its work
+        if (!isEmpty()) {
+            siftDown(0, lastKey, lastValue);
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns true if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the heap.
+     */
+    public void clear() {
+        // Clear to let GC do its work
+        for (int i = 0; i < size; i++) {
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the hole at the given index up until the entry can be placed in it
+     * without violating the min heap property.
+     *
+     * @param index the index of the hole
+     * @param key the key to place
+     * @param value the value to place
+     */
+    private void siftUp(int index, long key, Object value) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            long parentKey = keys[parentIndex];
+            if (parentKey <= key) {
+                break;
+            }
+
+            // Move the parent down into the hole
+            keys[index] = parentKey;
+            values[index] = values[parentIndex];
+            index = parentIndex;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Moves the hole at the given index down until the entry can be placed in it
+     * without violating the min heap property.
+     *
+     * @param index the index of the hole
+     * @param key the key to place
+     * @param value the value to place
+     */
+    private void siftDown(int index, long key, Object value) {
+        int half = size >>> 1;
+        while (index < half) {
+            // Pick the smaller of the two children
+            int minIndex = 2 * index + 1;
+            long minKey = keys[minIndex];
+            int rightChildIndex = minIndex + 1;
+            if (rightChildIndex < size && keys[rightChildIndex] < minKey) {
+                minIndex = rightChildIndex;
+                minKey = keys[rightChildIndex];
+            }
+
+            if (key <= minKey) {
+                break;
+            }
+
+            // Move the smaller child up into the hole
+            keys[index] = minKey;
+            values[index] = values[minIndex];
+            index = minIndex;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+}
@@ -0,0 +1,120 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy k-way merge over several sorted sources.
+ * One cursor per source sits in a MyMinHeap ordered by the cursor's current element.
+ * Each call to next takes the smallest cursor, returns its element and advances it in
+ * place with a single sift. Merging n elements from k sources therefore takes
+ * O(n log k) time with O(k) extra memory. Elements are pulled from the sources only
+ * as they are needed, so the caller can stop early at no extra cost.
+ * Equal elements come out in the order of their sources.
+ * @param <T> the type of elements returned by this iterator
+ */
+public class MyMergingIterator<T> implements Iterator<T> {
+    /**
+     * Current position in one source.
+     */
+    private static final class Cursor<T> {
+        T head;
+        final Iterator<? extends T> source;
+        final int sourceIndex;
+
+        Cursor(T head, Iterator<? extends T> source, int sourceIndex) {
+            this.head = head;
+            this.source = source;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+
+    private final MyMinHeap<Cursor<T>> heap;
+
+    /**
+     * Constructs an iterator that merges sources sorted by natural ordering.
+     * @param sources the sorted sources, such as sorted MyLists
+     */
+    @SuppressWarnings("unchecked")
+    public MyMergingIterator(MyList<? extends Iterable<? extends T>> sources) {
+        this(sources, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructs an iterator that merges sources sorted by the given comparator.
+     * @param sources the sorted sources, such as sorted MyLists
+     * @param comparator the comparator the sources are sorted by
+     */
+    public MyMergingIterator(MyList<? extends Iterable<? extends T>> sources,
+                             Comparator<? super T> comparator) {
+        this(comparator);
+        int sourceIndex = 0;
+        for (Iterable<? extends T> source : sources) {
+            addSource(source.iterator(), sourceIndex++);
+        }
+    }
+
+    private MyMergingIterator(Comparator<? super T> comparator) {
+        heap = new MyMinHeap<>((a, b) -> {
+            int result = comparator.compare(a.head, b.head);
+            return (result != 0) ? result : Integer.compare(a.sourceIndex, b.sourceIndex);
+        });
+    }
+
+    /**
+     * Constructs an iterator that merges iterators sorted by the given comparator.
+     * @param sources the sorted iterators
+     * @param comparator the comparator the iterators are sorted by
+     * @return an iterator over the merged elements
+     */
+    public static <T> MyMergingIterator<T> ofIterators(MyList<? extends Iterator<? extends T>> sources,
+                                                       Comparator<? super T> comparator) {
+        MyMergingIterator<T> merged = new MyMergingIterator<>(comparator);
+        int sourceIndex = 0;
+        for (Iterator<? extends T> source : sources) {
+            merged.addSource(source, sourceIndex++);
+        }
+        return merged;
+    }
+
+    /**
+     * Adds a cursor for the source if it has any elements.
+     * @param source the source iterator
+     * @param sourceIndex the position of the source, used to break ties
+     */
+    private void addSource(Iterator<? extends T> source, int sourceIndex) {
+        if (source.hasNext()) {
+            heap.insert(new Cursor<>(source.next(), source, sourceIndex));
+        }
+    }
+
+    /**
+     * Returns true if any source has elements left.
+     * @return true if the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    /**
+     * Returns the smallest remaining element across all sources.
+     * @return the next element in merged order
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Cursor<T> cursor = heap.peek();
+        T result = cursor.head;
+        if (cursor.source.hasNext()) {
+            // Advance the cursor and move it to its new place in the heap
+            cursor.head = cursor.source.next();
+            heap.replaceMin(cursor);
+        } else {
+            heap.extractMin();
+        }
+        return result;
+    }
+}
@@ -1,195 +1,551 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
- * Min Heap implementation using MyArrayList as the underlying data structure.
- * ArrayList is chosen because a heap is typically implemented as an array for efficient
- * parent-child index calculations and access.
+ * Min Heap implementation backed by its own array.
+ * A heap is typically implemented as an array for efficient parent-child index
+ * calculations and access. Sifting moves a hole through the array instead of swapping,
+ * so each level costs one compare and one write.
+ * Each node has a configurable number of children (the arity). Wider nodes make the
+ * heap shallower, so insert does fewer compares, and keep siblings next to each other
+ * in memory, at the cost of more compares per level in extractMin.
+ * Elements are ordered by their natural ordering unless a comparator is supplied;
+ * use maxHeap to get the largest element first.
  */
-public class MyMinHeap<T extends Comparable<T>> {
-    private MyArrayList<T> heap;
-    
+public class MyMinHeap<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ARITY = 2;
+
+    private final int arity;
+    private final Comparator<? super T> comparator; // null for natural ordering
+    private Object[] heap;
+    private int size;
+    private int modCount; // Structural changes, checked by sortedIterator
+
     // Constructor
     public MyMinHeap() {
-        heap = new MyArrayList<>();
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Constructs an empty heap whose nodes have the given number of children.
+     *
+     * @param arity the number of children per node, typically 2, 4 or 8
+     */
+    public MyMinHeap(int arity) {
+        this(arity, null);
+    }
+
+    /**
+     * Constructs an empty heap ordered by the given comparator.
+     *
+     * @param comparator the comparator that orders the heap
+     */
+    public MyMinHeap(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructs an empty heap with the given arity, ordered by the given comparator.
+     *
+     * @param arity the number of children per node, typically 2, 4 or 8
+     * @param comparator the comparator that orders the heap, or null for natural ordering
+     */
+    public MyMinHeap(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        heap = new Object[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Constructs a heap holding the elements of the given list, built in O(n).
+     *
+     * @param items the elements to place in the heap
+     */
+    public MyMinHeap(MyList<? extends T> items) {
+        this(items, null);
+    }
+
+    /**
+     * Constructs a heap holding the elements of the given list ordered by the given
+     * comparator, built in O(n).
+     *
+     * @param items the elements to place in the heap
+     * @param comparator the comparator that orders the heap, or null for natural ordering
+     */
+    public MyMinHeap(MyList<? extends T> items, Comparator<? super T> comparator) {
+        this.arity = DEFAULT_ARITY;
+        this.comparator = comparator;
+        heap = items.toArray();
+        size = heap.length;
+        if (heap.length == 0) {
+            heap = new Object[DEFAULT_CAPACITY];
+        }
+        heapify();
+    }
+
+    /**
+     * Constructs an empty max heap, which returns the largest element first.
+     *
+     * @return a heap ordered by the reverse of the natural ordering
+     */
+    public static <T extends Comparable<? super T>> MyMinHeap<T> maxHeap() {
+        return new MyMinHeap<>(Comparator.<T>reverseOrder());
+    }
+
+    /**
+     * Constructs an empty max heap, which returns the largest element according to
+     * the given comparator first.
+     *
+     * @param comparator the comparator to reverse
+     * @return a heap ordered by the reverse of the given comparator
+     */
+    public static <T> MyMinHeap<T> maxHeap(Comparator<? super T> comparator) {
+        return new MyMinHeap<>(comparator.reversed());
     }
-    
+
+    /**
+     * Returns the comparator that orders this heap.
+     *
+     * @return the comparator, or null if the heap uses natural ordering
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Increases the capacity of the heap array, if necessary.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            int newCapacity = Math.max(heap.length * 2, minCapacity);
+            Object[] newHeap = new Object[newCapacity];
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+    }
+
     /**
      * Inserts an item into the heap.
-     * 
+     *
      * @param item the item to be inserted
      */
     public void insert(T item) {
-        // Add the item at the end of the heap
-        heap.add(item);
-        
-        // Fix the min heap property if it is violated
-        siftUp(heap.size() - 1);
+        ensureCapacity(size + 1);
+        siftUp(size++, item);
+        modCount++;
+    }
+
+    /**
+     * Inserts all items of the given list into the heap. When the batch is at least as
+     * large as the heap, the whole array is rebuilt in O(n) instead of sifting each item up.
+     *
+     * @param items the items to be inserted
+     */
+    public void insertAll(MyList<? extends T> items) {
+        int count = items.size();
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        modCount++;
+
+        int oldSize = size;
+        if (count >= oldSize) {
+            for (T item : items) {
+                heap[size++] = item;
+            }
+            heapify();
+        } else {
+            for (T item : items) {
+                siftUp(size++, item);
+            }
+        }
     }
-    
+
     /**
      * Returns the minimum element without removing it.
-     * 
+     *
      * @return the minimum element
      * @throws NoSuchElementException if the heap is empty
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
         if (isEmpty()) {
             throw new NoSuchElementException("Heap is empty");
         }
-        
-        return heap.get(0);
+
+        return (T) heap[0];
     }
-    
+
     /**
      * Removes and returns the minimum element.
-     * 
+     *
      * @return the minimum element
      * @throws NoSuchElementException if the heap is empty
      */
+    @SuppressWarnings("unchecked")
     public T extractMin() {
         if (isEmpty()) {
             throw new NoSuchElementException("Heap is empty");
         }
-        
+
         // Store the minimum element (root)
-        T min = heap.get(0);
-        
-        // Replace the root with the last element
-        heap.set(0, heap.get(heap.size() - 1));
-        heap.remove(heap.size() - 1);
-        
-        // Fix the min heap property if it is violated
+        T min = (T) heap[0];
+        modCount++;
+
+        // Move the last element into the hole left at the root
+        T last = (T) heap[--size];
+        heap[size] = null; // Let GC do its work
         if (!isEmpty()) {
-            siftDown(0);
+            siftDown(0, last);
         }
-        
+
         return min;
     }
-    
+
+    /**
+     * Removes the minimum element and inserts the given item in a single sift,
+     * which is cheaper than extractMin followed by insert.
+     *
+     * @param item the item to be inserted
+     * @return the minimum element before the replacement
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T replaceMin(T item) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        T min = (T) heap[0];
+        siftDown(0, item);
+        modCount++;
+        return min;
+    }
+
     /**
      * Returns true if the heap is empty.
-     * 
+     *
      * @return true if the heap contains no elements
      */
     public boolean isEmpty() {
-        return heap.size() == 0;
+        return size == 0;
     }
-    
+
     /**
      * Returns the number of elements in the heap.
-     * 
+     *
      * @return the number of elements in the heap
      */
     public int size() {
-        return heap.size();
+        return size;
     }
-    
+
     /**
      * Removes all elements from the heap.
      */
     public void clear() {
-        heap.clear();
-    }
-    
-    /**
-     * Sifts up the element at the given index to maintain the min heap property.
-     * 
-     * @param index the index of the element to sift up
-     */
-    private void siftUp(int index) {
-        int parentIndex = getParentIndex(index);
-        
-        // While not at the root and the parent is greater than the current element
-        while (index > 0 && heap.get(parentIndex).compareTo(heap.get(index)) > 0) {
-            // Swap the elements
-            swap(parentIndex, index);
-            
-            // Move up in the heap
-            index = parentIndex;
-            parentIndex = getParentIndex(index);
+        // Clear to let GC do its work
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Restores the heap property over the whole array with Floyd's bottom-up method.
+     */
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        if (size <= 1) {
+            return;
+        }
+        for (int i = getParentIndex(size - 1); i >= 0; i--) {
+            siftDown(i, (T) heap[i]);
         }
     }
-    
+
     /**
-     * Sifts down the element at the given index to maintain the min heap property.
-     * 
-     * @param index the index of the element to sift down
+     * Moves the hole at the given index up until the item can be placed in it
+     * without violating the min heap property.
+     * Natural ordering and comparator ordering use separate loops, so each compare
+     * call site only ever sees one kind of receiver and stays cheap to inline.
+     *
+     * @param index the index of the hole
+     * @param item the item to place
      */
-    private void siftDown(int index) {
-        int minIndex = index;
-        
-        // Get the indices of the left and right children
-        int leftChildIndex = getLeftChildIndex(index);
-        int rightChildIndex = getRightChildIndex(index);
-        
-        // Check if the left child is smaller than the current element
-        if (leftChildIndex < heap.size() && heap.get(leftChildIndex).compareTo(heap.get(minIndex)) < 0) {
-            minIndex = leftChildIndex;
+    private void siftUp(int index, T item) {
+        if (comparator == null) {
+            siftUpComparable(index, item);
+        } else {
+            siftUpUsingComparator(index, item, comparator);
         }
-        
-        // Check if the right child is smaller than the current minimum
-        if (rightChildIndex < heap.size() && heap.get(rightChildIndex).compareTo(heap.get(minIndex)) < 0) {
-            minIndex = rightChildIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUpComparable(int index, T item) {
+        Comparable<? super T> key = (Comparable<? super T>) item;
+        // While not at the root and the parent is greater than the item
+        while (index > 0) {
+            int parentIndex = getParentIndex(index);
+            T parent = (T) heap[parentIndex];
+            if (key.compareTo(parent) >= 0) {
+                break;
+            }
+
+            // Move the parent down into the hole
+            heap[index] = parent;
+            index = parentIndex;
         }
-        
-        // If a child is smaller, swap and continue sifting down
-        if (index != minIndex) {
-            swap(index, minIndex);
-            siftDown(minIndex);
+        heap[index] = item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUpUsingComparator(int index, T item, Comparator<? super T> cmp) {
+        // While not at the root and the parent is greater than the item
+        while (index > 0) {
+            int parentIndex = getParentIndex(index);
+            T parent = (T) heap[parentIndex];
+            if (cmp.compare(item, parent) >= 0) {
+                break;
+            }
+
+            // Move the parent down into the hole
+            heap[index] = parent;
+            index = parentIndex;
         }
+        heap[index] = item;
     }
-    
+
     /**
-     * Swaps the elements at the given indices.
-     * 
-     * @param i the index of the first element
-     * @param j the index of the second element
+     * Moves the hole at the given index down until the item can be placed in it
+     * without violating the min heap property.
+     *
+     * @param index the index of the hole
+     * @param item the item to place
      */
-    private void swap(int i, int j) {
-        T temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    private void siftDown(int index, T item) {
+        if (comparator == null) {
+            siftDownComparable(index, item);
+        } else {
+            siftDownUsingComparator(index, item, comparator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDownComparable(int index, T item) {
+        Comparable<? super T> key = (Comparable<? super T>) item;
+        int firstChildIndex;
+        while ((firstChildIndex = getFirstChildIndex(index)) < size) {
+            // Pick the smallest of the children
+            int minIndex = firstChildIndex;
+            T minChild = (T) heap[firstChildIndex];
+            int lastChildIndex = Math.min(firstChildIndex + arity, size);
+            for (int childIndex = firstChildIndex + 1; childIndex < lastChildIndex; childIndex++) {
+                T child = (T) heap[childIndex];
+                if (((Comparable<? super T>) child).compareTo(minChild) < 0) {
+                    minIndex = childIndex;
+                    minChild = child;
+                }
+            }
+
+            if (key.compareTo(minChild) <= 0) {
+                break;
+            }
+
+            // Move the smallest child up into the hole
+            heap[index] = minChild;
+            index = minIndex;
+        }
+        heap[index] = item;
     }
-    
+
+    @SuppressWarnings("unchecked")
+    private void siftDownUsingComparator(int index, T item, Comparator<? super T> cmp) {
+        int firstChildIndex;
+        while ((firstChildIndex = getFirstChildIndex(index)) < size) {
+            // Pick the smallest of the children
+            int minIndex = firstChildIndex;
+            T minChild = (T) heap[firstChildIndex];
+            int lastChildIndex = Math.min(firstChildIndex + arity, size);
+            for (int childIndex = firstChildIndex + 1; childIndex < lastChildIndex; childIndex++) {
+                T child = (T) heap[childIndex];
+                if (cmp.compare(child, minChild) < 0) {
+                    minIndex = childIndex;
+                    minChild = child;
+                }
+            }
+
+            if (cmp.compare(item, minChild) <= 0) {
+                break;
+            }
+
+            // Move the smallest child up into the hole
+            heap[index] = minChild;
+            index = minIndex;
+        }
+        heap[index] = item;
+    }
+
     /**
      * Returns the index of the parent of the element at the given index.
-     * 
+     *
      * @param index the index of the element
      * @return the index of the parent
      */
     private int getParentIndex(int index) {
-        return (index - 1) / 2;
-    }
-    
-    /**
-     * Returns the index of the left child of the element at the given index.
-     * 
-     * @param index the index of the element
-     * @return the index of the left child
-     */
-    private int getLeftChildIndex(int index) {
-        return 2 * index + 1;
+        return (index - 1) / arity;
     }
-    
+
     /**
-     * Returns the index of the right child of the element at the given index.
-     * 
+     * Returns the index of the first child of the element at the given index.
+     * The remaining children follow it directly.
+     *
      * @param index the index of the element
-     * @return the index of the right child
+     * @return the index of the first child
      */
-    private int getRightChildIndex(int index) {
-        return 2 * index + 2;
+    private int getFirstChildIndex(int index) {
+        return arity * index + 1;
     }
-    
+
     /**
      * Returns an iterator over the elements in the heap.
      * Note: Iterating through the heap does not guarantee the elements
      * will be returned in sorted order.
-     * 
+     *
      * @return an iterator over the elements in the heap
      */
     public Iterator<T> iterator() {
-        return heap.iterator();
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) heap[currentIndex++];
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements in the heap in ascending order.
+     * The heap is not changed. A small frontier heap of array indices holds the
+     * children of the elements returned so far, so the first k elements cost
+     * O(k log k) regardless of the heap size.
+     * The iterator fails fast if the heap is modified while it is in use.
+     *
+     * @return an iterator over the elements in priority order
+     */
+    public Iterator<T> sortedIterator() {
+        return new SortedIterator();
+    }
+
+    /**
+     * Compares the elements at two indices of the heap array.
+     */
+    @SuppressWarnings("unchecked")
+    private int compareAt(int i, int j) {
+        T a = (T) heap[i];
+        T b = (T) heap[j];
+        return (comparator == null) ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+
+    private final class SortedIterator implements Iterator<T> {
+        private int[] frontier = new int[DEFAULT_CAPACITY]; // Heap indices ordered by their elements
+        private int frontierSize = 0;
+        private final int expectedModCount = modCount;
+
+        SortedIterator() {
+            if (size > 0) {
+                frontier[frontierSize++] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return frontierSize > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int index = frontier[0];
+            int firstChildIndex = getFirstChildIndex(index);
+            if (firstChildIndex < size) {
+                // The first child takes the returned index's place, the others are pushed
+                siftDownFrontier(0, firstChildIndex);
+                int lastChildIndex = Math.min(firstChildIndex + arity, size);
+                for (int childIndex = firstChildIndex + 1; childIndex < lastChildIndex; childIndex++) {
+                    pushFrontier(childIndex);
+                }
+            } else {
+                int last = frontier[--frontierSize];
+                if (frontierSize > 0) {
+                    siftDownFrontier(0, last);
+                }
+            }
+            return (T) heap[index];
+        }
+
+        private void pushFrontier(int heapIndex) {
+            if (frontierSize == frontier.length) {
+                frontier = Arrays.copyOf(frontier, frontier.length * 2);
+            }
+            int index = frontierSize++;
+            while (index > 0) {
+                int parentIndex = (index - 1) >>> 1;
+                int parent = frontier[parentIndex];
+                if (compareAt(heapIndex, parent) >= 0) {
+                    break;
+                }
+                frontier[index] = parent;
+                index = parentIndex;
+            }
+            frontier[index] = heapIndex;
+        }
+
+        private void siftDownFrontier(int index, int heapIndex) {
+            int half = frontierSize >>> 1;
+            while (index < half) {
+                int minIndex = 2 * index + 1;
+                int rightChildIndex = minIndex + 1;
+                if (rightChildIndex < frontierSize
+                        && compareAt(frontier[rightChildIndex], frontier[minIndex]) < 0) {
+                    minIndex = rightChildIndex;
+                }
+                if (compareAt(heapIndex, frontier[minIndex]) <= 0) {
+                    break;
+                }
+                frontier[index] = frontier[minIndex];
+                index = minIndex;
+            }
+            frontier[index] = heapIndex;
+        }
     }
-}
\ No newline at end of file
+}
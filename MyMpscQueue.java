@@ -0,0 +1,162 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for any number of producer threads and one consumer thread.
+ * Elements live in a power-of-two ring buffer with a sequence number per slot.
+ * Producers claim a position by advancing the shared producer counter with a CAS.
+ * A producer publishes its element by advancing the slot's sequence, and the consumer
+ * hands the slot back the same way. The producer and consumer counters are kept on
+ * separate cache lines.
+ * @param <T> the type of elements in this queue
+ */
+public class MyMpscQueue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Counters are spaced 16 longs (128 bytes) apart so they never share a cache line
+    private static final int PAD = 16;
+    private static final int PRODUCER_INDEX = PAD;
+    private static final int CONSUMER_INDEX = 2 * PAD;
+
+    private final AtomicLongArray counters = new AtomicLongArray(3 * PAD);
+    private final AtomicLongArray sequences;
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * Constructs an empty queue that holds at least the specified number of elements.
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    public MyMpscQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        int size = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[size];
+        mask = size - 1;
+
+        // A slot is free for the producer at position p when its sequence equals p
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.setPlain(i, i);
+        }
+    }
+
+    /**
+     * Inserts the specified element if there is room. Safe to call from any thread.
+     * @param item the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+
+        long position = counters.get(PRODUCER_INDEX);
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (counters.compareAndSet(PRODUCER_INDEX, position, position + 1)) {
+                    buffer[index] = item;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = counters.get(PRODUCER_INDEX);
+            } else if (difference < 0) {
+                // The consumer has not released this slot yet
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = counters.get(PRODUCER_INDEX);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue. Must only be called by the consumer thread.
+     * Returns null when the next element has been claimed by a producer but not yet published.
+     * @return the head of this queue, or null if none is available
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = counters.getPlain(CONSUMER_INDEX);
+        int index = (int) position & mask;
+        if (sequences.getAcquire(index) != position + 1) {
+            return null;
+        }
+
+        T item = (T) buffer[index];
+        buffer[index] = null; // Let GC do its work
+        sequences.setRelease(index, position + buffer.length);
+        counters.setRelease(CONSUMER_INDEX, position + 1);
+        return item;
+    }
+
+    /**
+     * Removes up to limit elements and passes them to the action in order, stopping early
+     * at the first element that has not been published yet. The new consumer position is
+     * published once for the whole batch. If the action throws, the elements removed so
+     * far, including the one passed to the action, stay removed. Must only be called by
+     * the consumer thread.
+     * @param action the action to perform on each element
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> action, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + limit);
+        }
+
+        long position = counters.getPlain(CONSUMER_INDEX);
+        int count = 0;
+        try {
+            while (count < limit) {
+                int index = (int) position & mask;
+                if (sequences.getAcquire(index) != position + 1) {
+                    break;
+                }
+                T item = (T) buffer[index];
+                buffer[index] = null; // Let GC do its work
+                sequences.setRelease(index, position + buffer.length);
+                position++;
+                count++;
+                action.accept(item);
+            }
+        } finally {
+            // Publish even if the action throws, since the slots have already been released
+            if (count > 0) {
+                counters.setRelease(CONSUMER_INDEX, position);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in this queue, including elements that have been
+     * claimed but not yet published. The value may already be stale when other threads are active.
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        long head = counters.getAcquire(CONSUMER_INDEX);
+        long tail = counters.getAcquire(PRODUCER_INDEX);
+        return (int) Math.max(tail - head, 0);
+    }
+
+    /**
+     * Tests if this queue is empty. The result may already be stale when other threads are active.
+     * @return true if this queue contains no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements this queue can hold.
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
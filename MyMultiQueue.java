@@ -0,0 +1,186 @@
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent relaxed priority queue built from several independent MyMinHeaps.
+ * Each sub-heap has its own lock, which is only ever tried, never waited on: a thread
+ * that finds a sub-heap busy simply picks another one. An insert goes to a random
+ * sub-heap. A poll looks at the cached minimums of two random sub-heaps and takes the
+ * smaller one. Threads rarely meet on the same lock, so throughput keeps growing with
+ * the number of threads, at the cost of order: poll returns an element close to the
+ * minimum, but not necessarily the minimum itself. With c sub-heaps per thread, the
+ * expected rank of a polled element stays within O(c * threads).
+ * Null elements are not permitted.
+ * @param <T> the type of elements in this queue
+ */
+public class MyMultiQueue<T> {
+    private static final int QUEUES_PER_THREAD = 2;
+
+    /**
+     * One sub-heap. It is its own lock, which saves an object and an indirection.
+     */
+    @SuppressWarnings("serial")
+    private static final class SubHeap<T> extends ReentrantLock {
+        final MyMinHeap<T> heap;
+        volatile T top; // Minimum of the heap, or null if empty; readable without the lock
+        volatile int size;
+
+        SubHeap(Comparator<? super T> comparator) {
+            heap = new MyMinHeap<>(comparator);
+        }
+
+        /**
+         * Refreshes the cached minimum and size. Must be called while holding the lock.
+         */
+        void publish() {
+            top = heap.isEmpty() ? null : heap.peek();
+            size = heap.size();
+        }
+    }
+
+    private final SubHeap<T>[] queues;
+    private final Comparator<? super T> comparator; // null for natural ordering
+
+    /**
+     * Constructs an empty queue with two sub-heaps per available processor, ordered by
+     * natural ordering.
+     */
+    public MyMultiQueue() {
+        this(QUEUES_PER_THREAD * Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * Constructs an empty queue with the given number of sub-heaps.
+     * @param queueCount the number of sub-heaps, typically a small multiple of the thread count
+     */
+    public MyMultiQueue(int queueCount) {
+        this(queueCount, null);
+    }
+
+    /**
+     * Constructs an empty queue with the given number of sub-heaps, ordered by the given comparator.
+     * @param queueCount the number of sub-heaps, typically a small multiple of the thread count
+     * @param comparator the comparator that orders the queue, or null for natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    public MyMultiQueue(int queueCount, Comparator<? super T> comparator) {
+        if (queueCount < 1) {
+            throw new IllegalArgumentException("Illegal queue count: " + queueCount);
+        }
+        this.comparator = comparator;
+        queues = (SubHeap<T>[]) new SubHeap<?>[queueCount];
+        for (int i = 0; i < queueCount; i++) {
+            queues[i] = new SubHeap<>(comparator);
+        }
+    }
+
+    /**
+     * Inserts an element into a randomly chosen sub-heap.
+     * @param item the element to insert
+     */
+    public void insert(T item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            SubHeap<T> queue = queues[random.nextInt(queues.length)];
+            if (queue.tryLock()) {
+                try {
+                    queue.heap.insert(item);
+                    queue.publish();
+                    return;
+                } finally {
+                    queue.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns an element close to the minimum: the smaller of the minimums of
+     * two randomly chosen sub-heaps.
+     * @return the removed element, or null if the queue is empty
+     */
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            SubHeap<T> queue = pickBetter(queues[random.nextInt(queues.length)],
+                    queues[random.nextInt(queues.length)]);
+            if (queue == null) {
+                // Both samples were empty, so look for any sub-heap with elements left
+                queue = findNonEmpty(random.nextInt(queues.length));
+                if (queue == null) {
+                    return null;
+                }
+            }
+            if (queue.tryLock()) {
+                try {
+                    if (!queue.heap.isEmpty()) {
+                        T item = queue.heap.extractMin();
+                        queue.publish();
+                        return item;
+                    }
+                } finally {
+                    queue.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements. The count is not atomic while other threads
+     * insert or poll.
+     * @return the approximate number of elements in the queue
+     */
+    public int size() {
+        int size = 0;
+        for (SubHeap<T> queue : queues) {
+            size += queue.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns true if no sub-heap holds an element at the time it is checked.
+     * @return true if the queue appears empty
+     */
+    public boolean isEmpty() {
+        return findNonEmpty(0) == null;
+    }
+
+    /**
+     * Returns the sub-heap with the smaller cached minimum, or null if both are empty.
+     */
+    private SubHeap<T> pickBetter(SubHeap<T> first, SubHeap<T> second) {
+        T firstTop = first.top;
+        T secondTop = second.top;
+        if (firstTop == null) {
+            return (secondTop == null) ? null : second;
+        }
+        if (secondTop == null) {
+            return first;
+        }
+        return (compare(secondTop, firstTop) < 0) ? second : first;
+    }
+
+    /**
+     * Returns the first sub-heap holding an element, scanning from the given index.
+     */
+    private SubHeap<T> findNonEmpty(int start) {
+        for (int i = 0; i < queues.length; i++) {
+            int index = start + i;
+            SubHeap<T> queue = queues[(index >= queues.length) ? index - queues.length : index];
+            if (queue.top != null) {
+                return queue;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return (comparator == null) ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+}
@@ -0,0 +1,288 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pairing heap: a mergeable min heap built from linked nodes.
+ * Every node keeps its children in a list, and two heaps combine by making the root
+ * with the larger element the first child of the other. That makes insert and meld O(1).
+ * extractMin pairs up the children of the removed root from left to right, then merges
+ * the pairs from right to left, which takes amortized O(log n). decreaseKey cuts the
+ * node out and links it back at the root, which is cheap in practice.
+ * Nodes remember which heap they belong to, so a node that was extracted, cleared or
+ * melded away is rejected instead of corrupting the heap.
+ * Elements are ordered by their natural ordering unless a comparator is supplied.
+ * @param <T> the type of elements in this heap
+ */
+public class MyPairingHeap<T> {
+    /**
+     * Handle for an element in the heap, used to change its key.
+     * @param <T> the type of the element
+     */
+    public static final class MyNode<T> {
+        private T item;
+        private MyNode<T> child; // Leftmost child
+        private MyNode<T> sibling; // Next sibling to the right
+        private MyNode<T> prev; // Previous sibling, or the parent for the leftmost child
+        private Owner owner; // Owner of the heap holding this node, or null once extracted
+
+        private MyNode(T item) {
+            this.item = item;
+        }
+
+        /**
+         * Returns the element held by this node.
+         * @return the element
+         */
+        public T item() {
+            return item;
+        }
+    }
+
+    /**
+     * Identifies the heap a group of nodes belongs to. meld forwards the other heap's
+     * owner to this heap's owner, so moving all of its nodes stays O(1). clear gives the
+     * heap a new owner, so the old nodes no longer match it.
+     */
+    private static final class Owner {
+        Owner forward; // Owner this one was melded into, or null
+    }
+
+    private final Comparator<? super T> comparator; // null for natural ordering
+    private Owner owner = new Owner();
+    private MyNode<T> root;
+    private int size;
+
+    // Constructor
+    public MyPairingHeap() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty heap ordered by the given comparator.
+     * @param comparator the comparator that orders the heap, or null for natural ordering
+     */
+    public MyPairingHeap(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the comparator that orders this heap.
+     * @return the comparator, or null if the heap uses natural ordering
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Inserts an item into the heap.
+     * @param item the item to be inserted
+     * @return the node holding the item, which can be passed to decreaseKey
+     */
+    public MyNode<T> insert(T item) {
+        MyNode<T> node = new MyNode<>(item);
+        node.owner = owner;
+        root = (root == null) ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Returns the minimum element without removing it.
+     * @return the minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return root.item;
+    }
+
+    /**
+     * Removes and returns the minimum element. Its node becomes invalid.
+     * @return the minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T extractMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        MyNode<T> min = root;
+        root = mergePairs(min.child);
+        min.child = null;
+        min.owner = null;
+        size--;
+        return min.item;
+    }
+
+    /**
+     * Moves every element of the other heap into this one in O(1). The other heap is
+     * left empty and its nodes now belong to this heap.
+     * Both heaps must use the same ordering.
+     * @param other the heap to merge into this one
+     */
+    public void meld(MyPairingHeap<T> other) {
+        if (other == this || other.root == null) {
+            return;
+        }
+        root = (root == null) ? other.root : link(root, other.root);
+        size += other.size;
+        other.owner.forward = owner;
+        other.owner = new Owner();
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * Lowers the key of the element held by the given node.
+     * @param node the node returned by insert
+     * @param newItem the new element, which must not be greater than the current one
+     * @throws NoSuchElementException if the node is no longer in the heap
+     * @throws IllegalArgumentException if the new element is greater than the current one
+     */
+    public void decreaseKey(MyNode<T> node, T newItem) {
+        if (!contains(node)) {
+            throw new NoSuchElementException("Node not in heap");
+        }
+        if (compare(newItem, node.item) > 0) {
+            throw new IllegalArgumentException("New key is greater than current key");
+        }
+        node.item = newItem;
+        if (node == root) {
+            return;
+        }
+
+        // Cut the node and its subtree out and link it back at the root
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        node.prev = null;
+        node.sibling = null;
+        root = link(root, node);
+    }
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if the heap contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * @return the number of elements in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the heap. All nodes become invalid.
+     */
+    public void clear() {
+        owner = new Owner();
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns true if the node holds an element that is still in this heap.
+     * @param node the node returned by insert
+     * @return true if the node is in this heap
+     */
+    public boolean contains(MyNode<T> node) {
+        if (node.owner == null) {
+            return false;
+        }
+
+        // Follow the forwarding chain, then point the node and the chain straight at its end
+        Owner last = node.owner;
+        while (last.forward != null) {
+            last = last.forward;
+        }
+        Owner current = node.owner;
+        while (current != last) {
+            Owner next = current.forward;
+            current.forward = last;
+            current = next;
+        }
+        node.owner = last;
+        return last == owner;
+    }
+
+    /**
+     * Merges two root nodes by making the one with the larger element the leftmost child
+     * of the other.
+     * @return the new root
+     */
+    private MyNode<T> link(MyNode<T> a, MyNode<T> b) {
+        if (compare(b.item, a.item) < 0) {
+            MyNode<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.sibling = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        b.prev = a;
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Merges a list of siblings into one tree with the two-pass method.
+     * @param first the leftmost sibling, or null
+     * @return the root of the merged tree, or null if the list was empty
+     */
+    private MyNode<T> mergePairs(MyNode<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // First pass: link siblings in pairs from left to right, stacking the results
+        MyNode<T> pairs = null;
+        while (first != null) {
+            MyNode<T> a = first;
+            MyNode<T> b = a.sibling;
+            first = (b == null) ? null : b.sibling;
+            a.prev = null;
+            a.sibling = null;
+            MyNode<T> merged = a;
+            if (b != null) {
+                b.prev = null;
+                b.sibling = null;
+                merged = link(a, b);
+            }
+            merged.sibling = pairs;
+            pairs = merged;
+        }
+
+        // Second pass: merge the stacked pairs from right to left
+        MyNode<T> result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null) {
+            MyNode<T> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        result.prev = null;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return (comparator == null) ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+}
@@ -0,0 +1,129 @@
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel stable merge sort over a range of an Object array using fork-join.
+ * The range is split into chunks that are sorted with MyTimSort, and sorted halves
+ * are combined with a merge that is itself split across the pool.
+ */
+final class MyParallelSort {
+    /**
+     * Smallest chunk handed to a single task; below this, splitting costs more than it saves.
+     */
+    static final int MIN_GRANULARITY = 1 << 13;
+
+    private MyParallelSort() {
+    }
+
+    /**
+     * Sorts the range [0, size) of the given array on the given pool.
+     * @param a the array to sort
+     * @param size the number of elements to sort
+     * @param c the comparator to determine the order
+     * @param work a scratch array of at least size elements
+     * @param pool the pool to run the sort on
+     */
+    static <T> void sort(Object[] a, int size, Comparator<? super T> c, Object[] work, ForkJoinPool pool) {
+        int granularity = Math.max(size / (pool.getParallelism() << 2), MIN_GRANULARITY);
+        pool.invoke(new Sorter<>(a, work, 0, size, c, granularity));
+    }
+
+    /**
+     * Sorts a range by sorting its halves in parallel and merging them.
+     */
+    @SuppressWarnings("serial")
+    private static final class Sorter<T> extends RecursiveAction {
+        private final Object[] a;
+        private final Object[] w;
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> c;
+        private final int granularity;
+
+        Sorter(Object[] a, Object[] w, int lo, int hi, Comparator<? super T> c, int granularity) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+            this.granularity = granularity;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (hi - lo <= granularity) {
+                MyTimSort.sort(a, lo, hi, c, null);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Sorter<>(a, w, lo, mid, c, granularity),
+                      new Sorter<>(a, w, mid, hi, c, granularity));
+
+            // Halves that are already in order need no merge
+            if (c.compare((T) a[mid - 1], (T) a[mid]) <= 0) {
+                return;
+            }
+
+            System.arraycopy(a, lo, w, lo, hi - lo);
+            new Merger<>(w, lo, mid, mid, hi, a, lo, c, granularity).compute();
+        }
+    }
+
+    /**
+     * Merges two sorted ranges by splitting the larger one at its midpoint and the
+     * smaller one at the matching position, then merging both pairs in parallel.
+     */
+    @SuppressWarnings("serial")
+    private static final class Merger<T> extends RecursiveAction {
+        private final Object[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final Object[] dest;
+        private final int destLo;
+        private final Comparator<? super T> c;
+        private final int granularity;
+
+        Merger(Object[] src, int lo1, int hi1, int lo2, int hi2,
+               Object[] dest, int destLo, Comparator<? super T> c, int granularity) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dest = dest;
+            this.destLo = destLo;
+            this.c = c;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= granularity) {
+                MyTimSort.merge(src, lo1, hi1, lo2, hi2, dest, destLo, c);
+                return;
+            }
+
+            // Equal elements from the first range must stay on the left to keep the merge stable
+            int mid1;
+            int mid2;
+            if (n1 >= n2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = MyTimSort.lowerBound(src, lo2, hi2, src[mid1], c);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = MyTimSort.upperBound(src, lo1, hi1, src[mid2], c);
+            }
+
+            int rightDestLo = destLo + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new Merger<>(src, lo1, mid1, lo2, mid2, dest, destLo, c, granularity),
+                      new Merger<>(src, mid1, hi1, mid2, hi2, dest, rightDestLo, c, granularity));
+        }
+    }
+}
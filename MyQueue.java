@@ -2,17 +2,67 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
- * Custom queue implementation using MyLinkedList as the underlying data structure.
+ * Custom queue implementation using a circular array buffer as the underlying data structure.
+ * The capacity is always a power of two so positions wrap with a mask, and the buffer
+ * doubles when full. Enqueue and dequeue allocate nothing once the buffer is large enough.
  * @param <T> the type of elements in this queue
  */
 public class MyQueue<T> implements Iterable<T> {
-    private MyLinkedList<T> list; // Using LinkedList for O(1) operations at both ends
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements; // Length is a power of two
+    private int head; // Position of the front element
+    private int size;
 
     /**
-     * Constructs an empty queue.
+     * Constructs an empty queue with an initial capacity of 16.
      */
     public MyQueue() {
-        list = new MyLinkedList<>();
+        elements = new Object[DEFAULT_CAPACITY];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Constructs an empty queue that can hold at least the specified number of elements
+     * before it has to grow.
+     * @param initialCapacity the initial capacity of the queue
+     */
+    public MyQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        elements = new Object[roundUpToPowerOfTwo(initialCapacity)];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least the given value, and at least 2.
+     * @param value the value to round up
+     * @return the rounded capacity
+     */
+    private static int roundUpToPowerOfTwo(int value) {
+        if (value <= 2) {
+            return 2;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Doubles the capacity of the buffer, moving the elements to the start of the new array.
+     */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue too large");
+        }
+        Object[] newElements = new Object[elements.length << 1];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, head);
+        elements = newElements;
+        head = 0;
     }
 
     /**
@@ -20,19 +70,26 @@ public class MyQueue<T> implements Iterable<T> {
      * @param item the element to add
      */
     public void enqueue(T item) {
-        list.addLast(item);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = item;
+        size++;
     }
 
     /**
      * Retrieves and removes the head of this queue.
      * @return the head of this queue
      */
+    @SuppressWarnings("unchecked")
     public T dequeue() {
         if (isEmpty()) {
             throw new NoSuchElementException("Queue is empty");
         }
-        T item = list.getFirst();
-        list.removeFirst();
+        T item = (T) elements[head];
+        elements[head] = null; // Let GC do its work
+        head = (head + 1) & (elements.length - 1);
+        size--;
         return item;
     }
 
@@ -40,11 +97,12 @@ public class MyQueue<T> implements Iterable<T> {
      * Retrieves, but does not remove, the head of this queue.
      * @return the head of this queue
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
         if (isEmpty()) {
             throw new NoSuchElementException("Queue is empty");
         }
-        return list.getFirst();
+        return (T) elements[head];
     }
 
     /**
@@ -52,7 +110,7 @@ public class MyQueue<T> implements Iterable<T> {
      * @return true if this queue contains no elements; false otherwise
      */
     public boolean isEmpty() {
-        return list.size() == 0;
+        return size == 0;
     }
 
     /**
@@ -60,14 +118,44 @@ public class MyQueue<T> implements Iterable<T> {
      * @return the number of elements in this queue
      */
     public int size() {
-        return list.size();
+        return size;
     }
 
     /**
      * Removes all of the elements from this queue.
      */
     public void clear() {
-        list.clear();
+        int mask = elements.length - 1;
+        // Clear to let GC do its work
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Removes the element at the given position from the front, shifting whichever
+     * side of it is shorter.
+     * @param index the position of the element counted from the front
+     */
+    private void removeAt(int index) {
+        int mask = elements.length - 1;
+        if (index < size / 2) {
+            // Shift the elements in front of it one position toward the rear
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Shift the elements behind it one position toward the front
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
     }
 
     /**
@@ -76,6 +164,33 @@ public class MyQueue<T> implements Iterable<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+            private boolean canRemove = false;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                canRemove = true;
+                return (T) elements[(head + currentIndex++) & (elements.length - 1)];
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                removeAt(--currentIndex);
+                canRemove = false;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread.
+ * Elements live in a power-of-two ring buffer. The producer and consumer each own a
+ * sequence counter, kept on separate cache lines. Each side also caches the last value
+ * it read of the other's counter, so it only touches the other's cache line when the
+ * queue looks full or empty.
+ * @param <T> the type of elements in this queue
+ */
+public class MySpscQueue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Counters are spaced 16 longs (128 bytes) apart so they never share a cache line
+    private static final int PAD = 16;
+    private static final int PRODUCER_INDEX = PAD;
+    private static final int CACHED_CONSUMER_INDEX = PAD + 1;
+    private static final int CONSUMER_INDEX = 2 * PAD;
+    private static final int CACHED_PRODUCER_INDEX = 2 * PAD + 1;
+
+    private final AtomicLongArray counters = new AtomicLongArray(3 * PAD);
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * Constructs an empty queue that holds at least the specified number of elements.
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    public MySpscQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        int size = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Inserts the specified element if there is room. Must only be called by the producer thread.
+     * @param item the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+
+        long tail = counters.getPlain(PRODUCER_INDEX);
+        if (tail - counters.getPlain(CACHED_CONSUMER_INDEX) > mask) {
+            long head = counters.getAcquire(CONSUMER_INDEX);
+            counters.setPlain(CACHED_CONSUMER_INDEX, head);
+            if (tail - head > mask) {
+                return false;
+            }
+        }
+
+        buffer[(int) tail & mask] = item;
+        counters.setRelease(PRODUCER_INDEX, tail + 1);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue. Must only be called by the consumer thread.
+     * @return the head of this queue, or null if it is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long head = counters.getPlain(CONSUMER_INDEX);
+        if (head >= counters.getPlain(CACHED_PRODUCER_INDEX)) {
+            long tail = counters.getAcquire(PRODUCER_INDEX);
+            counters.setPlain(CACHED_PRODUCER_INDEX, tail);
+            if (head >= tail) {
+                return null;
+            }
+        }
+
+        int index = (int) head & mask;
+        T item = (T) buffer[index];
+        buffer[index] = null; // Let GC do its work
+        counters.setRelease(CONSUMER_INDEX, head + 1);
+        return item;
+    }
+
+    /**
+     * Removes up to limit elements and passes them to the action in order, publishing
+     * the new consumer position once for the whole batch. If the action throws, the
+     * elements removed so far, including the one passed to the action, stay removed.
+     * Must only be called by the consumer thread.
+     * @param action the action to perform on each element
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> action, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + limit);
+        }
+
+        long head = counters.getPlain(CONSUMER_INDEX);
+        long tail = counters.getAcquire(PRODUCER_INDEX);
+        counters.setPlain(CACHED_PRODUCER_INDEX, tail);
+
+        int available = (int) Math.min(limit, tail - head);
+        int count = 0;
+        try {
+            while (count < available) {
+                int index = (int) (head + count) & mask;
+                T item = (T) buffer[index];
+                buffer[index] = null; // Let GC do its work
+                count++;
+                action.accept(item);
+            }
+        } finally {
+            // Publish even if the action throws, since the slots have already been cleared
+            if (count > 0) {
+                counters.setRelease(CONSUMER_INDEX, head + count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in this queue. The value may already be stale
+     * when other threads are active.
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        long head = counters.getAcquire(CONSUMER_INDEX);
+        long tail = counters.getAcquire(PRODUCER_INDEX);
+        return (int) Math.max(tail - head, 0);
+    }
+
+    /**
+     * Tests if this queue is empty. The result may already be stale when other threads are active.
+     * @return true if this queue contains no elements; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements this queue can hold.
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
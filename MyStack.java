@@ -1,17 +1,41 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
- * Custom stack implementation using MyArrayList as the underlying data structure.
+ * Custom stack implementation built from linked fixed-size array chunks.
+ * A full chunk is never copied; the stack just links a new chunk on top of it, so push
+ * is O(1) in the worst case and memory grows one chunk at a time. The most recently
+ * emptied chunk is kept as a spare, so pushing and popping across a chunk boundary
+ * does not allocate each time.
  * @param <T> the type of elements in this stack
  */
 public class MyStack<T> implements Iterable<T> {
-    private MyArrayList<T> list; // Using ArrayList for O(1) add/remove at the end
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Fixed-size block of elements, linked to the chunk below it.
+     */
+    private static final class Chunk {
+        final Object[] items = new Object[CHUNK_SIZE];
+        Chunk below;
+    }
+
+    private Chunk top; // Chunk holding the top element, or null if the stack is empty
+    private int topCount; // Number of elements in the top chunk
+    private Chunk spare; // Emptied chunk kept for the next push
+    private int size;
+    private int modCount; // Structural changes, checked by iterators
 
     /**
      * Constructs an empty stack.
      */
     public MyStack() {
-        list = new MyArrayList<>();
+        top = null;
+        topCount = 0;
+        spare = null;
+        size = 0;
     }
 
     /**
@@ -19,19 +43,40 @@ public class MyStack<T> implements Iterable<T> {
      * @param item the item to be pushed onto this stack
      */
     public void push(T item) {
-        list.addLast(item);
+        if (top == null || topCount == CHUNK_SIZE) {
+            // Link a new chunk on top, reusing the spare if there is one
+            Chunk chunk = (spare != null) ? spare : new Chunk();
+            spare = null;
+            chunk.below = top;
+            top = chunk;
+            topCount = 0;
+        }
+        top.items[topCount++] = item;
+        size++;
+        modCount++;
     }
 
     /**
      * Removes the object at the top of this stack and returns it.
      * @return the object at the top of this stack
      */
+    @SuppressWarnings("unchecked")
     public T pop() {
         if (isEmpty()) {
             throw new java.util.EmptyStackException();
         }
-        T item = list.getLast();
-        list.removeLast();
+        T item = (T) top.items[--topCount];
+        top.items[topCount] = null; // Let GC do its work
+        size--;
+        modCount++;
+        if (topCount == 0) {
+            // Unlink the empty chunk and keep it as the spare; every chunk below is full
+            Chunk empty = top;
+            top = empty.below;
+            empty.below = null;
+            spare = empty;
+            topCount = (top == null) ? 0 : CHUNK_SIZE;
+        }
         return item;
     }
 
@@ -39,11 +84,12 @@ public class MyStack<T> implements Iterable<T> {
      * Looks at the object at the top of this stack without removing it.
      * @return the object at the top of this stack
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
         if (isEmpty()) {
             throw new java.util.EmptyStackException();
         }
-        return list.getLast();
+        return (T) top.items[topCount - 1];
     }
 
     /**
@@ -51,7 +97,7 @@ public class MyStack<T> implements Iterable<T> {
      * @return true if this stack contains no items; false otherwise
      */
     public boolean isEmpty() {
-        return list.size() == 0;
+        return size == 0;
     }
 
     /**
@@ -59,27 +105,76 @@ public class MyStack<T> implements Iterable<T> {
      * @return the number of elements in this stack
      */
     public int size() {
-        return list.size();
+        return size;
     }
 
     /**
      * Removes all of the elements from this stack.
      */
     public void clear() {
-        list.clear();
+        top = null;
+        topCount = 0;
+        size = 0;
+        modCount++;
     }
 
     /**
-     * Returns an iterator over the elements in this stack in proper sequence.
-     * @return an iterator over the elements in this stack in proper sequence
+     * Returns an iterator over the elements in this stack from top to bottom.
+     * The iterator reads the chunks in place without copying and fails fast if the
+     * stack is modified while it is in use.
+     * @return an iterator over the elements in this stack from top to bottom
      */
     @Override
     public Iterator<T> iterator() {
-        // Create an array list with a copy of elements in stack order (top to bottom)
-        MyArrayList<T> reversed = new MyArrayList<>(list.size());
-        for (int i = list.size() - 1; i >= 0; i--) {
-            reversed.add(list.get(i));
+        return new Iterator<T>() {
+            private Chunk chunk = top;
+            private int index = topCount - 1; // Next position in the current chunk
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return chunk != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T item = (T) chunk.items[index];
+                if (--index < 0) {
+                    // Every chunk below the top one is full
+                    chunk = chunk.below;
+                    index = CHUNK_SIZE - 1;
+                }
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element from top to bottom without allocating
+     * an iterator.
+     * @param action the action to be performed for each element
+     * @throws ConcurrentModificationException if the action modifies the stack
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachFromTop(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        int count = topCount;
+        for (Chunk chunk = top; chunk != null && modCount == expectedModCount; chunk = chunk.below) {
+            Object[] items = chunk.items;
+            for (int i = count - 1; i >= 0 && modCount == expectedModCount; i--) {
+                action.accept((T) items[i]);
+            }
+            count = CHUNK_SIZE;
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
         }
-        return reversed.iterator();
     }
-}
\ No newline at end of file
+}
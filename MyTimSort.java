@@ -0,0 +1,333 @@
+import java.util.Comparator;
+
+/**
+ * Adaptive, stable merge sort over a range of an Object array (TimSort-style).
+ * Natural runs are detected and extended with binary insertion sort, then merged
+ * while keeping the run stack balanced. Merges trim the parts of each run that are
+ * already in place and only copy the shorter run into the scratch buffer.
+ * @param <T> the type of elements being sorted
+ */
+final class MyTimSort<T> {
+    /**
+     * Ranges shorter than this are sorted with binary insertion sort alone.
+     */
+    static final int MIN_MERGE = 32;
+
+    private final Object[] a;
+    private final Comparator<? super T> c;
+    private final int rangeLength;
+    private Object[] tmp;
+
+    private final int[] runBase = new int[49];
+    private final int[] runLen = new int[49];
+    private int stackSize = 0;
+
+    private MyTimSort(Object[] a, int rangeLength, Comparator<? super T> c, Object[] work) {
+        this.a = a;
+        this.c = c;
+        this.rangeLength = rangeLength;
+        this.tmp = work;
+    }
+
+    /**
+     * Sorts the range [lo, hi) of the given array.
+     * @param a the array to sort
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param c the comparator to determine the order
+     * @param work a scratch buffer to reuse, or null
+     * @return the scratch buffer used by the sort, to be passed back on the next call
+     */
+    static <T> Object[] sort(Object[] a, int lo, int hi, Comparator<? super T> c, Object[] work) {
+        int n = hi - lo;
+        if (n < 2) {
+            return work;
+        }
+
+        if (n < MIN_MERGE) {
+            int initRunLen = countRunAndMakeAscending(a, lo, hi, c);
+            binaryInsertionSort(a, lo, hi, lo + initRunLen, c);
+            return work;
+        }
+
+        MyTimSort<T> ts = new MyTimSort<>(a, n, c, work);
+        int minRun = minRunLength(n);
+        int remaining = n;
+        do {
+            // Identify the next run, extending it to minRun if it is too short
+            int runLength = countRunAndMakeAscending(a, lo, hi, c);
+            if (runLength < minRun) {
+                int force = Math.min(remaining, minRun);
+                binaryInsertionSort(a, lo, lo + force, lo + runLength, c);
+                runLength = force;
+            }
+
+            ts.pushRun(lo, runLength);
+            ts.mergeCollapse();
+
+            lo += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        ts.mergeForceCollapse();
+
+        // Drop references held by the scratch buffer so it does not retain elements
+        Object[] used = ts.tmp;
+        if (used != null) {
+            int limit = Math.min(used.length, n >>> 1);
+            for (int i = 0; i < limit; i++) {
+                used[i] = null;
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Merges the sorted ranges [lo1, hi1) and [lo2, hi2) of src into dest starting at destLo.
+     * Elements of the first range come first on ties.
+     */
+    static <T> void merge(Object[] src, int lo1, int hi1, int lo2, int hi2,
+                          Object[] dest, int destLo, Comparator<? super T> c) {
+        int i = lo1;
+        int j = lo2;
+        int d = destLo;
+        while (i < hi1 && j < hi2) {
+            if (compare(c, src[j], src[i]) < 0) {
+                dest[d++] = src[j++];
+            } else {
+                dest[d++] = src[i++];
+            }
+        }
+        if (i < hi1) {
+            System.arraycopy(src, i, dest, d, hi1 - i);
+        } else if (j < hi2) {
+            System.arraycopy(src, j, dest, d, hi2 - j);
+        }
+    }
+
+    /**
+     * Returns the index of the first element in [lo, hi) that is greater than or equal to key.
+     */
+    static <T> int lowerBound(Object[] a, int lo, int hi, Object key, Comparator<? super T> c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(c, a[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element in [lo, hi) that is strictly greater than key.
+     */
+    static <T> int upperBound(Object[] a, int lo, int hi, Object key, Comparator<? super T> c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(c, key, a[mid]) < 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(Comparator<? super T> c, Object x, Object y) {
+        return c.compare((T) x, (T) y);
+    }
+
+    /**
+     * Sorts [lo, hi) with binary insertion sort, assuming [lo, start) is already sorted.
+     */
+    private static <T> void binaryInsertionSort(Object[] a, int lo, int hi, int start,
+                                                Comparator<? super T> c) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            Object pivot = a[start];
+            // Insert after any equal elements to keep the sort stable
+            int left = upperBound(a, lo, start, pivot, c);
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the length of the run beginning at lo, reversing it if it is strictly descending.
+     */
+    private static <T> int countRunAndMakeAscending(Object[] a, int lo, int hi,
+                                                    Comparator<? super T> c) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (compare(c, a[runHi++], a[lo]) < 0) {
+            // Strictly descending, so reversing keeps the sort stable
+            while (runHi < hi && compare(c, a[runHi], a[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(a, lo, runHi);
+        } else {
+            while (runHi < hi && compare(c, a[runHi], a[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(Object[] a, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Object t = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = t;
+        }
+    }
+
+    /**
+     * Returns the minimum run length so that n / minRun is close to, but not above, a power of two.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * Merges runs on the stack until the length invariants are re-established.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+                    || (n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1])) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges all runs on the stack until only one remains.
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the two runs at stack indices i and i + 1.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // Elements of run1 that are not greater than run2's first element are already in place
+        int k = upperBound(a, base1, base1 + len1, a[base2], c) - base1;
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // Elements of run2 that are not less than run1's last element are already in place
+        len2 = lowerBound(a, base2, base2 + len2, a[base1 + len1 - 1], c) - base2;
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs by copying the first (shorter) run into the scratch buffer.
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] t = ensureCapacity(len1);
+        System.arraycopy(a, base1, t, 0, len1);
+
+        int i = 0;
+        int j = base2;
+        int end2 = base2 + len2;
+        int dest = base1;
+        while (i < len1 && j < end2) {
+            if (compare(c, a[j], t[i]) < 0) {
+                a[dest++] = a[j++];
+            } else {
+                a[dest++] = t[i++];
+            }
+        }
+        if (i < len1) {
+            System.arraycopy(t, i, a, dest, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs by copying the second (shorter) run into the scratch buffer.
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] t = ensureCapacity(len2);
+        System.arraycopy(a, base2, t, 0, len2);
+
+        int i = base1 + len1 - 1;
+        int j = len2 - 1;
+        int dest = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            if (compare(c, t[j], a[i]) < 0) {
+                a[dest--] = a[i--];
+            } else {
+                a[dest--] = t[j--];
+            }
+        }
+        if (j >= 0) {
+            System.arraycopy(t, 0, a, dest - j, j + 1);
+        }
+    }
+
+    /**
+     * Returns a scratch buffer of at least the given length, growing it at most once per sort.
+     */
+    private Object[] ensureCapacity(int minCapacity) {
+        if (tmp == null || tmp.length < minCapacity) {
+            tmp = new Object[Math.max(minCapacity, rangeLength >>> 1)];
+        }
+        return tmp;
+    }
+}
@@ -0,0 +1,317 @@
+import java.util.Comparator;
+
+/**
+ * Hierarchical hashed timer wheel for large numbers of pending deadlines.
+ * Time is cut into ticks of a fixed duration. The wheel has four levels of 64 slots;
+ * each level covers 64 times the span of the level below, so together they cover
+ * 2^24 ticks ahead of the current tick. A timeout goes into the lowest level whose
+ * next block up it shares with the current tick, and it moves down a level each time
+ * the wheel reaches its slot, until it expires from the bottom level.
+ * Every slot is an intrusive doubly linked list, so schedule and cancel are O(1).
+ * Deadlines beyond the top level wait in a small MyMinHeap until the wheel gets close
+ * enough to take them.
+ * Deadlines are rounded up to whole ticks, so a task never fires early.
+ * @param <T> the type of tasks scheduled on this wheel
+ */
+public class MyTimerWheel<T> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final int SPAN_BITS = WHEEL_BITS * LEVELS; // Ticks covered by all levels
+
+    private static final int DUE = LEVELS * WHEEL_SIZE; // List of timeouts already past their deadline
+    private static final int OVERFLOW = -2; // Waiting in the overflow heap
+    private static final int DONE = -1; // Expired or cancelled
+
+    /**
+     * Handle for a scheduled task, used to cancel it.
+     * @param <T> the type of the task
+     */
+    public static final class Timeout<T> {
+        private final long deadline;
+        private final long deadlineTick;
+        private final T task;
+        private int bucket; // Index of the list holding this timeout, OVERFLOW or DONE
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(long deadline, long deadlineTick, T task) {
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        /**
+         * Returns the deadline the task was scheduled for.
+         * @return the deadline
+         */
+        public long deadline() {
+            return deadline;
+        }
+
+        /**
+         * Returns the scheduled task.
+         * @return the task
+         */
+        public T task() {
+            return task;
+        }
+
+        /**
+         * Returns true if the task has neither expired nor been cancelled.
+         * @return true if the task is still pending
+         */
+        public boolean isPending() {
+            return bucket != DONE;
+        }
+    }
+
+    private final long tickDuration;
+    private final long startTime;
+    private long currentTick;
+
+    // Heads and tails of the slot lists, level by level, followed by the due list
+    private final Timeout<T>[] heads;
+    private final Timeout<T>[] tails;
+    private final int[] levelCounts; // Timeouts per level
+    private final MyMinHeap<Timeout<T>> overflow; // Cancelled entries are skipped lazily
+    private int size;
+
+    /**
+     * Constructs an empty timer wheel.
+     * @param tickDuration the length of one tick, in the same unit as deadlines
+     * @param startTime the time at which the first tick starts
+     */
+    @SuppressWarnings("unchecked")
+    public MyTimerWheel(long tickDuration, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Illegal tick duration: " + tickDuration);
+        }
+        this.tickDuration = tickDuration;
+        this.startTime = startTime;
+        this.currentTick = 0;
+        this.heads = (Timeout<T>[]) new Timeout<?>[DUE + 1];
+        this.tails = (Timeout<T>[]) new Timeout<?>[DUE + 1];
+        this.levelCounts = new int[LEVELS];
+        this.overflow = new MyMinHeap<>(Comparator.comparingLong((Timeout<T> timeout) -> timeout.deadlineTick));
+        this.size = 0;
+    }
+
+    /**
+     * Schedules a task to expire at the given deadline.
+     * A deadline that has already passed expires on the next call to advanceTo.
+     * @param deadline the time at which the task expires
+     * @param task the task to schedule
+     * @return the handle used to cancel the task
+     */
+    public Timeout<T> schedule(long deadline, T task) {
+        // Round up, so the task never expires before its deadline
+        long deadlineTick = -Math.floorDiv(startTime - deadline, tickDuration);
+        Timeout<T> timeout = new Timeout<>(deadline, deadlineTick, task);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled task.
+     * @param timeout the handle returned by schedule
+     * @return true if the task was pending and is now cancelled; false if it had already
+     *         expired or been cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == DONE) {
+            return false;
+        }
+        if (timeout.bucket != OVERFLOW) {
+            unlink(timeout);
+        }
+        // Timeouts in the overflow heap are dropped when the wheel reaches them
+        timeout.bucket = DONE;
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time and returns every task whose deadline
+     * has passed.
+     * Empty stretches are skipped level by level instead of tick by tick.
+     * @param now the current time
+     * @return a new list of the expired tasks
+     */
+    public MyArrayList<T> advanceTo(long now) {
+        MyArrayList<T> expired = new MyArrayList<>();
+        drain(DUE, expired);
+
+        long targetTick = Math.floorDiv(now - startTime, tickDuration);
+        while (currentTick < targetTick) {
+            int lowestLevel = 0;
+            while (lowestLevel < LEVELS && levelCounts[lowestLevel] == 0) {
+                lowestLevel++;
+            }
+
+            if (lowestLevel == LEVELS) {
+                // Nothing on the wheel, so jump straight to the target
+                currentTick = targetTick;
+                takeOverflow();
+                break;
+            }
+
+            // With the lower levels empty, nothing happens before the next slot of the lowest busy level
+            long tick = ((currentTick >>> (WHEEL_BITS * lowestLevel)) + 1) << (WHEEL_BITS * lowestLevel);
+            if (tick > targetTick) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick = tick;
+            if ((tick & WHEEL_MASK) == 0) {
+                cascade(tick);
+            }
+            drain((int) (tick & WHEEL_MASK), expired);
+        }
+
+        drain(DUE, expired);
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending tasks.
+     * @return the number of tasks that have neither expired nor been cancelled
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if no tasks are pending.
+     * @return true if the wheel holds no pending tasks
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves the timeouts whose slots the wheel has just reached down to lower levels.
+     * Higher levels go first, so their timeouts can still cascade further in this tick.
+     * @param tick the tick just reached, on a bottom-level boundary
+     */
+    private void cascade(long tick) {
+        if ((tick & ((1L << SPAN_BITS) - 1)) == 0) {
+            takeOverflow();
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = WHEEL_BITS * level;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int bucket = level * WHEEL_SIZE + (int) ((tick >>> shift) & WHEEL_MASK);
+            Timeout<T> timeout = heads[bucket];
+            heads[bucket] = null;
+            tails[bucket] = null;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                levelCounts[level]--;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Moves the overflow timeouts that now fit on the wheel onto it.
+     */
+    private void takeOverflow() {
+        long block = currentTick >>> SPAN_BITS;
+        while (!overflow.isEmpty() && (overflow.peek().deadlineTick >>> SPAN_BITS) <= block) {
+            Timeout<T> timeout = overflow.extractMin();
+            if (timeout.bucket == OVERFLOW) {
+                place(timeout);
+            }
+        }
+    }
+
+    /**
+     * Places a timeout on the due list, on the lowest level that shares its next block up
+     * with the current tick, or in the overflow heap.
+     * @param timeout the timeout to place
+     */
+    private void place(Timeout<T> timeout) {
+        long deadlineTick = timeout.deadlineTick;
+        if (deadlineTick <= currentTick) {
+            link(timeout, DUE);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * (level + 1);
+            if ((deadlineTick >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                link(timeout, level * WHEEL_SIZE + slot);
+                levelCounts[level]++;
+                return;
+            }
+        }
+        timeout.bucket = OVERFLOW;
+        overflow.insert(timeout);
+    }
+
+    /**
+     * Appends a timeout to the tail of the given list.
+     */
+    private void link(Timeout<T> timeout, int bucket) {
+        timeout.bucket = bucket;
+        timeout.next = null;
+        timeout.prev = tails[bucket];
+        if (tails[bucket] == null) {
+            heads[bucket] = timeout;
+        } else {
+            tails[bucket].next = timeout;
+        }
+        tails[bucket] = timeout;
+    }
+
+    /**
+     * Removes a timeout from the list holding it.
+     */
+    private void unlink(Timeout<T> timeout) {
+        int bucket = timeout.bucket;
+        if (timeout.prev == null) {
+            heads[bucket] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next == null) {
+            tails[bucket] = timeout.prev;
+        } else {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        if (bucket != DUE) {
+            levelCounts[bucket / WHEEL_SIZE]--;
+        }
+    }
+
+    /**
+     * Expires every timeout in the given list.
+     * @param bucket the bottom-level slot or the due list
+     * @param expired the list receiving the expired tasks
+     */
+    private void drain(int bucket, MyArrayList<T> expired) {
+        Timeout<T> timeout = heads[bucket];
+        heads[bucket] = null;
+        tails[bucket] = null;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.bucket = DONE;
+            timeout.prev = null;
+            timeout.next = null;
+            expired.add(timeout.task);
+            size--;
+            if (bucket != DUE) {
+                levelCounts[0]--;
+            }
+            timeout = next;
+        }
+    }
+}
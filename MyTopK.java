@@ -0,0 +1,112 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Bounded collector that keeps the K largest elements seen in a stream.
+ * The kept elements sit in a K-sized MyMinHeap, so the weakest of them is at the root.
+ * Once the collector is full, a candidate that does not beat the root is rejected after
+ * a single comparison. A candidate that does beat it replaces the root in one sift.
+ * Memory stays O(K) however many elements are offered.
+ * @param <T> the type of elements collected
+ */
+public class MyTopK<T> {
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final MyMinHeap<T> heap;
+
+    /**
+     * Constructs a collector for the k largest elements by natural ordering.
+     * @param k the number of elements to keep
+     */
+    @SuppressWarnings("unchecked")
+    public MyTopK(int k) {
+        this(k, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructs a collector for the k largest elements according to the given comparator.
+     * @param k the number of elements to keep
+     * @param comparator the comparator that decides which elements are larger
+     */
+    public MyTopK(int k, Comparator<? super T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = new MyMinHeap<>(comparator);
+    }
+
+    /**
+     * Offers an element to the collector.
+     * @param item the candidate element
+     * @return true if the element is now among the kept elements
+     */
+    public boolean offer(T item) {
+        if (heap.size() < k) {
+            heap.insert(item);
+            return true;
+        }
+        if (comparator.compare(item, heap.peek()) <= 0) {
+            return false;
+        }
+        heap.replaceMin(item);
+        return true;
+    }
+
+    /**
+     * Returns the smallest of the kept elements, which a candidate must beat once the
+     * collector is full.
+     * @return the smallest kept element
+     * @throws NoSuchElementException if nothing has been collected
+     */
+    public T peekThreshold() {
+        return heap.peek();
+    }
+
+    /**
+     * Returns the kept elements sorted from largest to smallest. The collector is not changed.
+     * @return a new list of the kept elements, largest first
+     */
+    public MyArrayList<T> toSortedList() {
+        MyArrayList<T> result = new MyArrayList<>(heap.size());
+        Iterator<T> iterator = heap.iterator();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        result.sort(comparator.reversed());
+        return result;
+    }
+
+    /**
+     * Returns the maximum number of elements this collector keeps.
+     * @return the value of k
+     */
+    public int capacity() {
+        return k;
+    }
+
+    /**
+     * Returns the number of elements currently kept.
+     * @return the number of kept elements
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Tests if this collector has kept no elements.
+     * @return true if no elements are kept; false otherwise
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Removes all kept elements.
+     */
+    public void clear() {
+        heap.clear();
+    }
+}
@@ -0,0 +1,507 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Custom unrolled linked list implementation.
+ * Each node stores a block of elements in an array, which keeps neighbouring elements
+ * close in memory and cuts the per-element overhead of a plain linked list. Full nodes
+ * are split on insert and sparse nodes are merged with or refilled from their successor
+ * on remove.
+ * @param <T> the type of elements in this list
+ */
+public class MyUnrolledLinkedList<T> implements MyList<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 4;
+
+    /**
+     * Node class holding a block of up to nodeCapacity elements.
+     */
+    private class MyNode {
+        final Object[] elements;
+        int count;
+        MyNode next;
+        MyNode prev;
+
+        MyNode() {
+            elements = new Object[nodeCapacity];
+        }
+    }
+
+    private final int nodeCapacity;
+    private MyNode head;
+    private MyNode tail;
+    private int size;
+    private int foundOffset; // Offset within the node returned by the last call to findNode
+
+    /**
+     * Constructs an empty list with 64 elements per node.
+     */
+    public MyUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified number of elements per node.
+     * @param nodeCapacity the number of elements each node can hold
+     */
+    public MyUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the node holding the element at the specified position in this list
+     * and stores the element's offset within that node in foundOffset.
+     * @param index index of the element
+     * @return the node holding the element
+     */
+    private MyNode findNode(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        MyNode current;
+        if (index < size / 2) {
+            // Search from the beginning
+            current = head;
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
+            }
+            foundOffset = index;
+        } else {
+            // Search from the end
+            int fromEnd = size - 1 - index;
+            current = tail;
+            while (fromEnd >= current.count) {
+                fromEnd -= current.count;
+                current = current.prev;
+            }
+            foundOffset = current.count - 1 - fromEnd;
+        }
+        return current;
+    }
+
+    /**
+     * Creates an empty node and links it after the given node, or at the front if it is null.
+     * @param node the node to link after
+     * @return the new node
+     */
+    private MyNode linkAfter(MyNode node) {
+        MyNode newNode = new MyNode();
+        newNode.prev = node;
+        newNode.next = (node == null) ? head : node.next;
+        if (newNode.next != null) {
+            newNode.next.prev = newNode;
+        } else {
+            tail = newNode;
+        }
+        if (node != null) {
+            node.next = newNode;
+        } else {
+            head = newNode;
+        }
+        return newNode;
+    }
+
+    /**
+     * Unlinks the given node from the list.
+     * @param node the node to unlink
+     */
+    private void unlink(MyNode node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null; // Help with garbage collection
+    }
+
+    /**
+     * Inserts an element into a node, splitting the node first if it is full.
+     * @param node the node to insert into
+     * @param offset the offset within the node to insert at
+     * @param item element to be inserted
+     */
+    private void insertAt(MyNode node, int offset, T item) {
+        if (node.count == nodeCapacity) {
+            // Move the upper half into a new node
+            int half = nodeCapacity / 2;
+            MyNode newNode = linkAfter(node);
+            int moved = node.count - half;
+            System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+            for (int i = half; i < node.count; i++) {
+                node.elements[i] = null;
+            }
+            newNode.count = moved;
+            node.count = half;
+
+            if (offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = item;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Removes an element from a node, then merges the node with or refills it from
+     * its successor if it has become less than half full.
+     * @param node the node to remove from
+     * @param offset the offset within the node of the element to remove
+     */
+    private void removeAt(MyNode node, int offset) {
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null; // Let GC do its work
+        size--;
+
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+
+        int half = nodeCapacity / 2;
+        MyNode next = node.next;
+        if (node.count >= half || next == null) {
+            return;
+        }
+
+        if (node.count + next.count <= nodeCapacity) {
+            // Merge the successor into this node
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        } else {
+            // Borrow from the successor until this node is half full
+            int borrowed = half - node.count;
+            System.arraycopy(next.elements, 0, node.elements, node.count, borrowed);
+            node.count += borrowed;
+            System.arraycopy(next.elements, borrowed, next.elements, 0, next.count - borrowed);
+            for (int i = next.count - borrowed; i < next.count; i++) {
+                next.elements[i] = null;
+            }
+            next.count -= borrowed;
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param item element to be appended to this list
+     */
+    @Override
+    public void add(T item) {
+        addLast(item);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     * @param index index of the element to replace
+     * @param item element to be stored at the specified position
+     */
+    @Override
+    public void set(int index, T item) {
+        MyNode node = findNode(index);
+        node.elements[foundOffset] = item;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * @param index index at which the specified element is to be inserted
+     * @param item element to be inserted
+     */
+    @Override
+    public void add(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == size) {
+            addLast(item);
+        } else {
+            MyNode node = findNode(index);
+            insertAt(node, foundOffset, item);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     * @param item element to be inserted at the beginning of this list
+     */
+    @Override
+    public void addFirst(T item) {
+        if (head == null || head.count == nodeCapacity) {
+            linkAfter(null);
+        }
+        insertAt(head, 0, item);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param item element to be appended to this list
+     */
+    @Override
+    public void addLast(T item) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.elements[tail.count++] = item;
+        size++;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        MyNode node = findNode(index);
+        return (T) node.elements[foundOffset];
+    }
+
+    /**
+     * Returns the first element in this list.
+     * @return the first element in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return (T) head.elements[0];
+    }
+
+    /**
+     * Returns the last element in this list.
+     * @return the last element in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * @param index the index of the element to be removed
+     */
+    @Override
+    public void remove(int index) {
+        MyNode node = findNode(index);
+        removeAt(node, foundOffset);
+    }
+
+    /**
+     * Removes the first element from this list.
+     */
+    @Override
+    public void removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        removeAt(head, 0);
+    }
+
+    /**
+     * Removes the last element from this list.
+     */
+    @Override
+    public void removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        removeAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Sorts this list according to the natural ordering of its elements.
+     * Elements must implement Comparable interface.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        sort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * The sort is stable.
+     * @param comparator the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        if (size <= 1) {
+            return;
+        }
+
+        Object[] array = toArray();
+        MyTimSort.sort(array, 0, array.length, comparator, null);
+
+        // Copy back block by block
+        int position = 0;
+        for (MyNode node = head; node != null; node = node.next) {
+            System.arraycopy(array, position, node.elements, 0, node.count);
+            position += node.count;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list.
+     * @param object element to search for
+     * @return the index of the first occurrence of the specified element, or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        int index = 0;
+        for (MyNode node = head; node != null; node = node.next) {
+            Object[] elements = node.elements;
+            for (int i = 0; i < node.count; i++) {
+                if (object == null ? elements[i] == null : object.equals(elements[i])) {
+                    return index + i;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list.
+     * @param object element to search for
+     * @return the index of the last occurrence of the specified element, or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        int index = size;
+        for (MyNode node = tail; node != null; node = node.prev) {
+            index -= node.count;
+            Object[] elements = node.elements;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (object == null ? elements[i] == null : object.equals(elements[i])) {
+                    return index + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     * @param object element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    @Override
+    public boolean exists(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list.
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int position = 0;
+        for (MyNode node = head; node != null; node = node.next) {
+            System.arraycopy(node.elements, 0, result, position, node.count);
+            position += node.count;
+        }
+        return result;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list.
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private MyNode current = head;
+            private int offset = 0;
+            private int nextIndex = 0;
+            private boolean canRemove = false;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (offset >= current.count) {
+                    current = current.next;
+                    offset = 0;
+                }
+                nextIndex++;
+                canRemove = true;
+                return (T) current.elements[offset++];
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+
+                // Removal only merges with or borrows from the successor, so the
+                // cursor stays valid unless its node was emptied and unlinked
+                MyNode next = current.next;
+                removeAt(current, offset - 1);
+                if (current.count == 0) {
+                    current = next;
+                    offset = 0;
+                } else {
+                    offset--;
+                }
+                nextIndex--;
+                canRemove = false;
+            }
+        };
+    }
+}